@@ -0,0 +1,58 @@
+package org.mondogrua;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchScorerBenchmark {
+
+    @Param
+    public GameEngine engine;
+
+    @Param({"100000"})
+    public int games;
+
+    private int[][] rolls;
+    private BatchScorer batchScorer;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        rolls = new int[games][];
+        for (int gameIdx = 0; gameIdx < games; gameIdx++) {
+            rolls[gameIdx] = RollSequence.randomGame(random);
+        }
+        batchScorer = new BatchScorer(engine);
+    }
+
+    @Benchmark
+    public int[] sequential() {
+        int[] scores = new int[rolls.length];
+        for (int gameIdx = 0; gameIdx < rolls.length; gameIdx++) {
+            scores[gameIdx] = batchScorer.score(rolls[gameIdx]);
+        }
+        return scores;
+    }
+
+    @Benchmark
+    public int[] parallel() {
+        return batchScorer.score(rolls);
+    }
+}
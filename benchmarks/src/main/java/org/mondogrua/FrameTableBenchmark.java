@@ -0,0 +1,55 @@
+package org.mondogrua;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FrameTableBenchmark {
+    private static final int GAMES = 256;
+
+    private final Game[] games = new Game[GAMES];
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (int gameIdx = 0; gameIdx < GAMES; gameIdx++) {
+            int[] rolls = RollSequence.randomGame(random);
+            games[gameIdx] = new Game();
+            games[gameIdx].addAll(rolls, 0, random.nextInt(rolls.length + 1));
+        }
+    }
+
+    @Benchmark
+    public int getMaxPossibleScore() {
+        int maxPossibleScore = 0;
+        for (Game game : games) {
+            maxPossibleScore += game.getMaxPossibleScore();
+        }
+        return maxPossibleScore;
+    }
+
+    @Benchmark
+    public int getPinsLeft() {
+        int pinsLeft = 0;
+        for (Game game : games) {
+            pinsLeft += game.getPinsLeft();
+        }
+        return pinsLeft;
+    }
+}
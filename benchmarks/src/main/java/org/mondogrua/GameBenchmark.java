@@ -0,0 +1,122 @@
+package org.mondogrua;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBenchmark {
+
+    @Param
+    public GameEngine engine;
+
+    @Param
+    public RollSequence sequence;
+
+    private Roll[] rolls;
+    private int[] pins;
+    private IGame game;
+    private GamePool pool;
+    private IGame validating;
+    private final StringBuilder report = new StringBuilder(512);
+
+    @Setup
+    public void setUp() {
+        rolls = sequence.rolls();
+        pins = sequence.pins();
+        game = engine.newGame();
+        pool = new GamePool(engine, 1);
+        validating = new ValidatingGame(engine.newGame());
+        for (Roll roll : rolls) {
+            game.add(roll);
+        }
+    }
+
+    @Benchmark
+    public IGame add() {
+        IGame replayed = engine.newGame();
+        for (Roll roll : rolls) {
+            replayed.add(roll);
+        }
+        return replayed;
+    }
+
+    @Benchmark
+    public IGame addPins() {
+        IGame replayed = engine.newGame();
+        for (int roll : pins) {
+            replayed.add(roll);
+        }
+        return replayed;
+    }
+
+    @Benchmark
+    public IGame addAll() {
+        IGame replayed = engine.newGame();
+        replayed.addAll(pins);
+        return replayed;
+    }
+
+    @Benchmark
+    public int validatingAddAll() {
+        validating.reset();
+        validating.addAll(pins);
+        return validating.getScore();
+    }
+
+    @Benchmark
+    public int pooledAddAll() {
+        IGame pooled = pool.acquire();
+        pooled.addAll(pins);
+        int score = pooled.getScore();
+        pool.release(pooled);
+        return score;
+    }
+
+    @Benchmark
+    public int getScore() {
+        return game.getScore();
+    }
+
+    @Benchmark
+    public String getReport() {
+        return game.getReport();
+    }
+
+    @Benchmark
+    public StringBuilder writeReportTo() {
+        report.setLength(0);
+        game.writeReportTo(report);
+        return report;
+    }
+
+    @Benchmark
+    public int currentFrame() {
+        return game.currentFrame();
+    }
+
+    @Benchmark
+    public int getMaxPossibleScore() {
+        return game.getMaxPossibleScore();
+    }
+
+    @Benchmark
+    public int getPinsLeft() {
+        return game.getPinsLeft();
+    }
+}
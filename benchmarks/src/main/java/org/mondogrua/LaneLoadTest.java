@@ -0,0 +1,73 @@
+package org.mondogrua;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LaneLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        int lanes = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int gamesPerLane = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        LongAdder requests = new LongAdder();
+        try (LaneServer server = LaneServer.start(0)) {
+            ExecutorService clients = LaneServer.newSessionExecutor();
+            long start = System.nanoTime();
+            List<Future<?>> results = new ArrayList<>(lanes);
+            for (int laneIdx = 0; laneIdx < lanes; laneIdx++) {
+                long seed = laneIdx;
+                results.add(clients.submit(() -> play(server.getPort(), new Random(seed), gamesPerLane, requests)));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+            clients.shutdown();
+            System.out.printf("%d lanes, %d requests in %.2f s: %.0f requests/s%n",
+                    lanes, requests.sum(), seconds, requests.sum() / seconds);
+        }
+    }
+
+    private static void play(int port, Random random, int games, LongAdder requests) {
+        for (int gameIdx = 0; gameIdx < games; gameIdx++) {
+            int[] rolls = RollSequence.randomGame(random);
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+                socket.setTcpNoDelay(true);
+                Writer writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.US_ASCII);
+                BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                for (int pins : rolls) {
+                    send(writer, reader, "add " + pins, "ok");
+                    send(writer, reader, "score", null);
+                }
+                IGame expected = new Game();
+                expected.addAll(rolls);
+                send(writer, reader, "score", Integer.toString(expected.getScore()));
+                requests.add(2L * rolls.length + 1);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static void send(Writer writer, BufferedReader reader, String command, String expected) throws IOException {
+        writer.write(command);
+        writer.write('\n');
+        writer.flush();
+        String answer = reader.readLine();
+        if (expected != null && !expected.equals(answer)) {
+            throw new IllegalStateException(command + " answered " + answer);
+        }
+    }
+}
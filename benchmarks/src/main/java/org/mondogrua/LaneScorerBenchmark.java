@@ -0,0 +1,77 @@
+package org.mondogrua;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LaneScorerBenchmark {
+    private static final int EVENTS = 100_000;
+
+    @Param
+    public GameEngine engine;
+
+    @Param({"64"})
+    public int lanes;
+
+    private LaneRoll[] events;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<int[]> games = new ArrayList<>();
+        int[] positions = new int[lanes];
+        for (int laneIdx = 0; laneIdx < lanes; laneIdx++) {
+            games.add(RollSequence.randomGame(random));
+        }
+        events = new LaneRoll[EVENTS];
+        for (int eventIdx = 0; eventIdx < EVENTS; eventIdx++) {
+            int laneIdx = random.nextInt(lanes);
+            if (positions[laneIdx] == games.get(laneIdx).length) {
+                games.set(laneIdx, RollSequence.randomGame(random));
+                positions[laneIdx] = 0;
+            }
+            events[eventIdx] = new LaneRoll(laneIdx, games.get(laneIdx)[positions[laneIdx]++]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public long pipeline() throws Exception {
+        LongAdder total = new LongAdder();
+        LaneScorer scorer = new LaneScorer(engine, ForkJoinPool.commonPool(), 1024, LaneScorer.DEFAULT_REQUEST_SIZE);
+        CompletableFuture<Void> done;
+        try (SubmissionPublisher<LaneRoll> source = new SubmissionPublisher<>()) {
+            source.subscribe(scorer);
+            done = scorer.consume(score -> total.add(score.getScore()));
+            for (LaneRoll event : events) {
+                source.submit(event);
+            }
+        }
+        done.get();
+        return total.sum();
+    }
+}
@@ -0,0 +1,56 @@
+package org.mondogrua;
+
+import java.util.Random;
+
+public enum RollSequence {
+    ALL_ZERO(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0),
+    PERFECT(10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10),
+    ALL_SPARES(6, 4, 6, 4, 6, 4, 6, 4, 6, 4, 6, 4, 6, 4, 6, 4, 6, 4, 6, 4, 6),
+    ENDING_WITH_SPARE(6, 4, 6, 3, 10, 10, 5, 3, 6, 2, 7, 1, 10, 10, 4, 6, 10),
+    ENDING_WITH_STRIKE(6, 4, 6, 3, 10, 10, 5, 3, 6, 2, 7, 1, 4, 6, 4, 6, 10, 5, 2),
+    RANDOM(randomGame(new Random(42)));
+
+    private final int[] pins;
+
+    RollSequence(int... pins) {
+        this.pins = pins;
+    }
+
+    public int[] pins() {
+        return pins.clone();
+    }
+
+    public Roll[] rolls() {
+        Roll[] rolls = new Roll[pins.length];
+        for (int i = 0; i < pins.length; i++) {
+            rolls[i] = new Roll(pins[i]);
+        }
+        return rolls;
+    }
+
+    public static int[] randomGame(Random random) {
+        int[] rolls = new int[21];
+        int count = 0;
+        for (int frame = 1; frame <= 10; frame++) {
+            int first = random.nextInt(IRoll.MAX_PINS + 1);
+            rolls[count++] = first;
+            if (frame < 10) {
+                if (first < IRoll.MAX_PINS) {
+                    rolls[count++] = random.nextInt(IRoll.MAX_PINS - first + 1);
+                }
+                continue;
+            }
+            int second = random.nextInt((first == IRoll.MAX_PINS ? IRoll.MAX_PINS : IRoll.MAX_PINS - first) + 1);
+            rolls[count++] = second;
+            if (first == IRoll.MAX_PINS) {
+                int standing = second == IRoll.MAX_PINS ? IRoll.MAX_PINS : IRoll.MAX_PINS - second;
+                rolls[count++] = random.nextInt(standing + 1);
+            } else if (first + second == IRoll.MAX_PINS) {
+                rolls[count++] = random.nextInt(IRoll.MAX_PINS + 1);
+            }
+        }
+        int[] game = new int[count];
+        System.arraycopy(rolls, 0, game, 0, count);
+        return game;
+    }
+}
@@ -0,0 +1,54 @@
+package org.mondogrua;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreDistributionBenchmark {
+
+    @Param({"0", "6", "12"})
+    public int rollsPlayed;
+
+    private int[] rolls;
+    private ScoreForecaster forecaster;
+
+    @Setup
+    public void setUp() {
+        int[] game = RollSequence.randomGame(new Random(42));
+        rolls = Arrays.copyOf(game, Math.min(rollsPlayed, game.length));
+        forecaster = new ScoreForecaster(PinModel.uniform());
+    }
+
+    @Benchmark
+    public long distribution() {
+        return ScoreDistribution.of(rolls).getTotalCount();
+    }
+
+    @Benchmark
+    public double forecast() {
+        return forecaster.forecast(rolls).getExpectedScore();
+    }
+
+    @Benchmark
+    public ScoreForecaster forecaster() {
+        return new ScoreForecaster(PinModel.uniform());
+    }
+}
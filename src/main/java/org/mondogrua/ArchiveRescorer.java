@@ -0,0 +1,307 @@
+package org.mondogrua;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class ArchiveRescorer {
+    public static final int DEFAULT_CHUNK_SIZE = 8 << 20;
+
+    private static final int OUTPUT_CAPACITY = 1 << 20;
+    private static final int MAX_LINE_OUTPUT = 256;
+    private static final int BLANK = -1;
+    private static final int ERROR = -2;
+
+    private final GameEngine engine;
+    private final int threads;
+    private final int chunkSize;
+
+    public ArchiveRescorer() {
+        this(GameEngine.FRAMES, Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_SIZE);
+    }
+
+    public ArchiveRescorer(GameEngine engine, int threads, int chunkSize) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("threads must be positive: " + threads);
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+        }
+        this.engine = engine;
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+    }
+
+    public Summary rescore(Path input, Path output) throws IOException {
+        long start = System.nanoTime();
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ResultWriter writer = new ResultWriter(out);
+            Deque<Future<Chunk>> pending = new ArrayDeque<>();
+            long size = in.size();
+            long position = 0;
+            while (position < size) {
+                ByteBuffer chunk = nextChunk(in, position, size);
+                position += chunk.limit();
+                pending.addLast(workers.submit(() -> new ChunkScorer(engine).score(chunk)));
+                if (pending.size() >= 2 * threads) {
+                    writer.write(await(pending.removeFirst()));
+                }
+            }
+            while (!pending.isEmpty()) {
+                writer.write(await(pending.removeFirst()));
+            }
+            writer.flush();
+            return new Summary(writer.records, writer.errors, System.nanoTime() - start);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private ByteBuffer nextChunk(FileChannel in, long position, long size) throws IOException {
+        long length = Math.min(chunkSize, size - position);
+        while (true) {
+            MappedByteBuffer window = in.map(FileChannel.MapMode.READ_ONLY, position, length);
+            if (position + length == size) {
+                return window;
+            }
+            for (int end = (int) length - 1; end >= 0; end--) {
+                if (window.get(end) == '\n') {
+                    return window.limit(end + 1).slice();
+                }
+            }
+            if (length == Integer.MAX_VALUE) {
+                throw new IOException("line at byte " + position + " is longer than " + Integer.MAX_VALUE + " bytes");
+            }
+            length = Math.min(Math.min(2 * length, Integer.MAX_VALUE), size - position);
+        }
+    }
+
+    private static Chunk await(Future<Chunk> chunk) throws IOException {
+        try {
+            return chunk.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("rescoring interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IOException("rescoring failed", e.getCause());
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: ArchiveRescorer <input.csv> <output.csv> [threads]");
+            System.exit(2);
+        }
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        Summary summary = new ArchiveRescorer(GameEngine.FRAMES, threads, DEFAULT_CHUNK_SIZE)
+                .rescore(Paths.get(args[0]), Paths.get(args[1]));
+        System.out.println(summary);
+    }
+
+    public static final class Summary {
+        private final long records;
+        private final long errors;
+        private final long nanos;
+
+        Summary(long records, long errors, long nanos) {
+            this.records = records;
+            this.errors = errors;
+            this.nanos = nanos;
+        }
+
+        public long getRecords() {
+            return records;
+        }
+
+        public long getErrors() {
+            return errors;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        public double getRecordsPerSecond() {
+            return records * 1e9 / Math.max(nanos, 1);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d records, %d errors in %.2f s: %.0f records/s",
+                    records, errors, nanos / 1e9, getRecordsPerSecond());
+        }
+    }
+
+    private static final class Chunk {
+        private int[] scores = new int[1024];
+        private int lines;
+        private final List<String> errors = new ArrayList<>();
+
+        void add(int score) {
+            if (lines == scores.length) {
+                int[] grown = new int[2 * lines];
+                System.arraycopy(scores, 0, grown, 0, lines);
+                scores = grown;
+            }
+            scores[lines++] = score;
+        }
+
+        void addError(String error) {
+            errors.add(error);
+            add(ERROR);
+        }
+    }
+
+    private static final class ChunkScorer {
+        private final IGame game;
+        private final RollValidator validator = new RollValidator();
+        private final int[] rolls = new int[EncodedGame.MAX_ROLLS];
+
+        ChunkScorer(GameEngine engine) {
+            this.game = engine.newGame();
+        }
+
+        Chunk score(ByteBuffer bytes) {
+            Chunk chunk = new Chunk();
+            int limit = bytes.limit();
+            int start = 0;
+            while (start < limit) {
+                int end = start;
+                while (end < limit && bytes.get(end) != '\n') {
+                    end++;
+                }
+                scoreLine(bytes, start, end, chunk);
+                start = end + 1;
+            }
+            return chunk;
+        }
+
+        private void scoreLine(ByteBuffer bytes, int start, int end, Chunk chunk) {
+            int rollCount = 0;
+            int pins = -1;
+            for (int position = start; position <= end; position++) {
+                byte symbol = position < end ? bytes.get(position) : (byte) '\n';
+                if (symbol >= '0' && symbol <= '9') {
+                    pins = Math.min(Math.max(pins, 0) * 10 + (symbol - '0'), 1000);
+                } else if (symbol == ',' || symbol == ' ' || symbol == '\t' || symbol == '\r' || symbol == '\n') {
+                    if (pins >= 0) {
+                        if (rollCount == rolls.length) {
+                            chunk.addError("more than " + rolls.length + " rolls");
+                            return;
+                        }
+                        rolls[rollCount++] = pins;
+                        pins = -1;
+                    }
+                } else {
+                    chunk.addError("unexpected character at column " + (position - start + 1));
+                    return;
+                }
+            }
+            if (rollCount == 0) {
+                chunk.add(BLANK);
+                return;
+            }
+            validator.reset();
+            try {
+                for (int rollIdx = 0; rollIdx < rollCount; rollIdx++) {
+                    validator.accept(rolls[rollIdx]);
+                }
+            } catch (InvalidRollException e) {
+                chunk.addError(e.getMessage());
+                return;
+            }
+            if (!validator.isGameOver()) {
+                chunk.addError("game is not complete after " + rollCount + " rolls");
+                return;
+            }
+            game.reset();
+            game.addAll(rolls, 0, rollCount);
+            chunk.add(game.getScore());
+        }
+    }
+
+    private static final class ResultWriter {
+        private final FileChannel out;
+        private final ByteBuffer buffer = ByteBuffer.allocate(OUTPUT_CAPACITY);
+        private final byte[] digits = new byte[20];
+        private long line;
+        private long records;
+        private long errors;
+
+        ResultWriter(FileChannel out) {
+            this.out = out;
+        }
+
+        void write(Chunk chunk) throws IOException {
+            int errorIdx = 0;
+            for (int lineIdx = 0; lineIdx < chunk.lines; lineIdx++) {
+                line++;
+                int score = chunk.scores[lineIdx];
+                if (score == BLANK) {
+                    continue;
+                }
+                if (buffer.remaining() < MAX_LINE_OUTPUT) {
+                    flush();
+                }
+                records++;
+                putDecimal(line);
+                buffer.put((byte) ',');
+                if (score == ERROR) {
+                    errors++;
+                    buffer.put("error,".getBytes(StandardCharsets.US_ASCII));
+                    putQuoted(chunk.errors.get(errorIdx++), MAX_LINE_OUTPUT - 32 - digits.length);
+                } else {
+                    putDecimal(score);
+                }
+                buffer.put((byte) '\n');
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private void putQuoted(String message, int limit) {
+            byte[] bytes = message.getBytes(StandardCharsets.US_ASCII);
+            int end = buffer.position() + limit - 1;
+            buffer.put((byte) '"');
+            for (int byteIdx = 0; byteIdx < bytes.length && buffer.position() + (bytes[byteIdx] == '"' ? 2 : 1) <= end; byteIdx++) {
+                if (bytes[byteIdx] == '"') {
+                    buffer.put((byte) '"');
+                }
+                buffer.put(bytes[byteIdx]);
+            }
+            buffer.put((byte) '"');
+        }
+
+        private void putDecimal(long value) {
+            int length = 0;
+            do {
+                digits[length++] = (byte) ('0' + value % 10);
+                value /= 10;
+            } while (value > 0);
+            while (length > 0) {
+                buffer.put(digits[--length]);
+            }
+        }
+    }
+}
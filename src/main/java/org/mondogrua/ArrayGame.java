@@ -0,0 +1,269 @@
+package org.mondogrua;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import static org.mondogrua.IRoll.MAX_PINS;
+
+public class ArrayGame implements IGame {
+    private static final int FRAMES = 10;
+    private static final int MAX_ROLLS = 21;
+    private static final int REPORT_CAPACITY = 320;
+
+    private static final int NOT_STARTED = 0;
+    private static final int ONE_ROLL = 1;
+    private static final int OPEN = 2;
+    private static final int SPARE = 3;
+    private static final int SPARE_WITH_BONUS = 4;
+    private static final int STRIKE = 5;
+    private static final int STRIKE_WITH_ONE_BONUS = 6;
+    private static final int STRIKE_WITH_TWO_BONUSES = 7;
+
+    private final int[] rolls = new int[MAX_ROLLS];
+    private final int[] frameStarts = new int[FRAMES];
+    private int rollCount;
+    private int frameCount;
+    private final ReportAccumulator reportAccumulator = new ReportAccumulator(new StringBuilder(REPORT_CAPACITY));
+    private String report;
+
+    @Override
+    public void add(Roll roll) {
+        add(roll.getPins());
+    }
+
+    @Override
+    public void add(int pins) {
+        if (isComplete()) {
+            return;
+        }
+        if (frameCount == 0 || frameCount < FRAMES && rollCount == nextFrameStart()) {
+            frameStarts[frameCount++] = rollCount;
+        }
+        rolls[rollCount++] = pins;
+        report = null;
+    }
+
+    @Override
+    public void addAll(int[] rolls, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, rolls.length);
+        for (int rollIdx = offset; rollIdx < offset + length; rollIdx++) {
+            add(rolls[rollIdx]);
+        }
+    }
+
+    @Override
+    public void reset() {
+        rollCount = 0;
+        frameCount = 0;
+        report = null;
+    }
+
+    @Override
+    public void undo() {
+        if (rollCount > 0) {
+            truncate(rollCount - 1);
+        }
+    }
+
+    @Override
+    public void correct(int rollIndex, int pins) {
+        Objects.checkIndex(rollIndex, rollCount);
+        int[] laterRolls = Arrays.copyOfRange(rolls, rollIndex + 1, rollCount);
+        truncate(rollIndex);
+        add(pins);
+        addAll(laterRolls);
+    }
+
+    @Override
+    public int[] getRolls() {
+        return Arrays.copyOf(rolls, rollCount);
+    }
+
+    @Override
+    public int getScore() {
+        int score = 0;
+        for (int frame = 0; frame < frameCount; frame++) {
+            int state = stateOf(frame);
+            if (!isScored(state)) {
+                break;
+            }
+            score += framePins(frame, state);
+        }
+        return score;
+    }
+
+    @Override
+    public String getReport() {
+        if (report == null) {
+            reportAccumulator.reset();
+            writeReportTo(reportAccumulator);
+            report = reportAccumulator.value();
+        }
+        return report;
+    }
+
+    @Override
+    public void writeReportTo(StringBuilder report) {
+        writeReportTo(new ReportAccumulator(report));
+    }
+
+    private void writeReportTo(ReportAccumulator reportAccumulator) {
+        int partialScore = 0;
+        for (int frame = 0; frame < FRAMES; frame++) {
+            reportAccumulator.addFrame(frame + 1);
+            int state = stateOf(frame);
+            switch (state) {
+                case ONE_ROLL:
+                    reportAccumulator.add(Roll.of(first(frame)).getReport());
+                    break;
+                case OPEN:
+                    reportAccumulator.add(Roll.of(first(frame)).getReport());
+                    reportAccumulator.add(Roll.of(second(frame)).getReport());
+                    break;
+                case SPARE:
+                case SPARE_WITH_BONUS:
+                    reportAccumulator.add(Roll.of(first(frame)).getReport());
+                    reportAccumulator.add("/");
+                    break;
+                case STRIKE:
+                case STRIKE_WITH_ONE_BONUS:
+                case STRIKE_WITH_TWO_BONUSES:
+                    reportAccumulator.add("X");
+                    break;
+                default:
+                    break;
+            }
+            if (isScored(state)) {
+                partialScore += framePins(frame, state);
+                reportAccumulator.addScore(partialScore);
+            }
+        }
+    }
+
+    @Override
+    public int currentFrame() {
+        int previousFrameIndex = -1;
+        for (int frame = 0; frame < FRAMES; frame++) {
+            int state = stateOf(frame);
+            if (state == NOT_STARTED || state == ONE_ROLL) {
+                return frame + 1;
+            }
+            previousFrameIndex = isScored(state) ? -1 : frame + 1;
+        }
+        return previousFrameIndex;
+    }
+
+    @Override
+    public int getMaxPossibleScore() {
+        int maxPossibleScore = 0;
+        for (int frame = 0; frame < FRAMES; frame++) {
+            switch (stateOf(frame)) {
+                case NOT_STARTED:
+                    maxPossibleScore += 3 * MAX_PINS;
+                    break;
+                case ONE_ROLL:
+                    maxPossibleScore += 2 * MAX_PINS;
+                    break;
+                case OPEN:
+                    maxPossibleScore += first(frame) + second(frame);
+                    break;
+                case SPARE:
+                    maxPossibleScore += first(frame) + second(frame) + MAX_PINS;
+                    break;
+                case STRIKE:
+                    maxPossibleScore += first(frame) + 2 * MAX_PINS;
+                    break;
+                case STRIKE_WITH_ONE_BONUS:
+                    maxPossibleScore += first(frame) + (second(frame) == MAX_PINS ? MAX_PINS : 0) + MAX_PINS;
+                    break;
+                default:
+                    maxPossibleScore += first(frame) + second(frame) + third(frame);
+                    break;
+            }
+        }
+        return maxPossibleScore;
+    }
+
+    @Override
+    public int getPinsLeft() {
+        int previousPinsLeft = 0;
+        for (int frame = 0; frame < FRAMES; frame++) {
+            switch (stateOf(frame)) {
+                case NOT_STARTED:
+                    return MAX_PINS;
+                case ONE_ROLL:
+                    return MAX_PINS - first(frame);
+                case SPARE:
+                case STRIKE:
+                    previousPinsLeft = MAX_PINS;
+                    break;
+                case STRIKE_WITH_ONE_BONUS:
+                    previousPinsLeft = second(frame) == MAX_PINS ? MAX_PINS : MAX_PINS - second(frame);
+                    break;
+                default:
+                    previousPinsLeft = 0;
+                    break;
+            }
+        }
+        return previousPinsLeft;
+    }
+
+    private void truncate(int newRollCount) {
+        rollCount = newRollCount;
+        while (frameCount > 0 && frameStarts[frameCount - 1] >= rollCount) {
+            frameCount--;
+        }
+        report = null;
+    }
+
+    private boolean isComplete() {
+        if (frameCount < FRAMES) {
+            return false;
+        }
+        int state = stateOf(FRAMES - 1);
+        return state == OPEN || state == SPARE_WITH_BONUS || state == STRIKE_WITH_TWO_BONUSES;
+    }
+
+    private int nextFrameStart() {
+        int start = frameStarts[frameCount - 1];
+        return start + (rolls[start] == MAX_PINS ? 1 : 2);
+    }
+
+    private int stateOf(int frame) {
+        if (frame >= frameCount) {
+            return NOT_STARTED;
+        }
+        int start = frameStarts[frame];
+        int available = rollCount - start;
+        if (rolls[start] == MAX_PINS) {
+            return available == 1 ? STRIKE : available == 2 ? STRIKE_WITH_ONE_BONUS : STRIKE_WITH_TWO_BONUSES;
+        }
+        if (available == 1) {
+            return ONE_ROLL;
+        }
+        if (rolls[start] + rolls[start + 1] != MAX_PINS) {
+            return OPEN;
+        }
+        return available == 2 ? SPARE : SPARE_WITH_BONUS;
+    }
+
+    private static boolean isScored(int state) {
+        return state == OPEN || state == SPARE_WITH_BONUS || state == STRIKE_WITH_TWO_BONUSES;
+    }
+
+    private int framePins(int frame, int state) {
+        return state == OPEN ? first(frame) + second(frame) : first(frame) + second(frame) + third(frame);
+    }
+
+    private int first(int frame) {
+        return rolls[frameStarts[frame]];
+    }
+
+    private int second(int frame) {
+        return rolls[frameStarts[frame] + 1];
+    }
+
+    private int third(int frame) {
+        return rolls[frameStarts[frame] + 2];
+    }
+}
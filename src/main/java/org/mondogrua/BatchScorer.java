@@ -0,0 +1,44 @@
+package org.mondogrua;
+
+import java.util.Collection;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public class BatchScorer {
+    private final GamePool games;
+
+    public BatchScorer() {
+        this(GameEngine.FRAMES);
+    }
+
+    public BatchScorer(GameEngine engine) {
+        this.games = new GamePool(engine, 1);
+    }
+
+    public int score(int[] rolls) {
+        IGame game = games.acquire();
+        try {
+            game.addAll(rolls);
+            return game.getScore();
+        } finally {
+            games.release(game);
+        }
+    }
+
+    public int[] score(int[][] rolls) {
+        return IntStream.range(0, rolls.length)
+                .parallel()
+                .map(gameIdx -> score(rolls[gameIdx]))
+                .toArray();
+    }
+
+    public int[] score(Collection<int[]> rolls) {
+        return score(rolls.stream());
+    }
+
+    public int[] score(Stream<int[]> rolls) {
+        return rolls.parallel()
+                .mapToInt(this::score)
+                .toArray();
+    }
+}
@@ -0,0 +1,127 @@
+package org.mondogrua;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+public class ConcurrentGame implements IGame {
+    private static final ThreadLocal<ArrayGame> SCRATCH = ThreadLocal.withInitial(ArrayGame::new);
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.of(new ArrayGame()));
+
+    @Override
+    public void add(Roll roll) {
+        add(roll.getPins());
+    }
+
+    @Override
+    public void add(int pins) {
+        update(game -> game.add(pins));
+    }
+
+    @Override
+    public void addAll(int[] rolls, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, rolls.length);
+        update(game -> game.addAll(rolls, offset, length));
+    }
+
+    @Override
+    public void reset() {
+        update(IGame::reset);
+    }
+
+    @Override
+    public void undo() {
+        update(IGame::undo);
+    }
+
+    @Override
+    public void correct(int rollIndex, int pins) {
+        update(game -> game.correct(rollIndex, pins));
+    }
+
+    public EncodedGame snapshot() {
+        return snapshot.get().rolls;
+    }
+
+    @Override
+    public int[] getRolls() {
+        return snapshot().getRolls();
+    }
+
+    @Override
+    public int getScore() {
+        return snapshot.get().score;
+    }
+
+    @Override
+    public String getReport() {
+        return snapshot.get().getReport();
+    }
+
+    @Override
+    public void writeReportTo(StringBuilder report) {
+        report.append(getReport());
+    }
+
+    @Override
+    public int currentFrame() {
+        return snapshot.get().currentFrame;
+    }
+
+    @Override
+    public int getMaxPossibleScore() {
+        return snapshot.get().maxPossibleScore;
+    }
+
+    @Override
+    public int getPinsLeft() {
+        return snapshot.get().pinsLeft;
+    }
+
+    private void update(Consumer<IGame> change) {
+        Snapshot current;
+        Snapshot next;
+        do {
+            current = snapshot.get();
+            ArrayGame game = SCRATCH.get();
+            game.reset();
+            current.rolls.addTo(game);
+            change.accept(game);
+            next = Snapshot.of(game);
+        } while (!snapshot.compareAndSet(current, next));
+    }
+
+    private static final class Snapshot {
+        private final EncodedGame rolls;
+        private final int score;
+        private final int currentFrame;
+        private final int maxPossibleScore;
+        private final int pinsLeft;
+        private String report;
+
+        private Snapshot(EncodedGame rolls, int score, int currentFrame, int maxPossibleScore, int pinsLeft) {
+            this.rolls = rolls;
+            this.score = score;
+            this.currentFrame = currentFrame;
+            this.maxPossibleScore = maxPossibleScore;
+            this.pinsLeft = pinsLeft;
+        }
+
+        static Snapshot of(IGame game) {
+            return new Snapshot(EncodedGame.of(game), game.getScore(), game.currentFrame(), game.getMaxPossibleScore(), game.getPinsLeft());
+        }
+
+        String getReport() {
+            String report = this.report;
+            if (report == null) {
+                ArrayGame game = SCRATCH.get();
+                game.reset();
+                rolls.addTo(game);
+                report = game.getReport();
+                this.report = report;
+            }
+            return report;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package org.mondogrua;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+public final class EncodedGame {
+    public static final int BYTES = 2 * Long.BYTES;
+    public static final int MAX_ROLLS = 21;
+    public static final EncodedGame EMPTY = new EncodedGame(0L, 0L);
+
+    private static final int BITS_PER_ROLL = 4;
+    private static final int ROLLS_PER_LONG = Long.SIZE / BITS_PER_ROLL;
+    private static final long ROLL_MASK = (1L << BITS_PER_ROLL) - 1;
+    private static final long COUNT_MASK = 0x1FL;
+    private static final int COUNT_SHIFT = 56;
+
+    private final long low;
+    private final long high;
+
+    public EncodedGame(long low, long high) {
+        this.low = low;
+        this.high = high;
+    }
+
+    public static EncodedGame of(IGame game) {
+        return of(game.getRolls());
+    }
+
+    public static EncodedGame of(int[] rolls) {
+        if (rolls.length > MAX_ROLLS) {
+            throw new IllegalArgumentException("an encoded game holds at most " + MAX_ROLLS + " rolls");
+        }
+        long low = 0L;
+        long high = (long) rolls.length << COUNT_SHIFT;
+        for (int rollIdx = 0; rollIdx < rolls.length; rollIdx++) {
+            long roll = (long) checkPins(rolls[rollIdx]) << (rollIdx % ROLLS_PER_LONG) * BITS_PER_ROLL;
+            if (rollIdx < ROLLS_PER_LONG) {
+                low |= roll;
+            } else {
+                high |= roll;
+            }
+        }
+        return new EncodedGame(low, high);
+    }
+
+    public static EncodedGame read(ByteBuffer buffer) {
+        long low = buffer.getLong();
+        return new EncodedGame(low, buffer.getLong());
+    }
+
+    public static EncodedGame read(ByteBuffer buffer, int recordIdx) {
+        int position = recordIdx * BYTES;
+        return new EncodedGame(buffer.getLong(position), buffer.getLong(position + Long.BYTES));
+    }
+
+    public static int getRollCount(long high) {
+        return (int) ((high >>> COUNT_SHIFT) & COUNT_MASK);
+    }
+
+    public static int getRoll(long low, long high, int rollIdx) {
+        long word = rollIdx < ROLLS_PER_LONG ? low : high;
+        return (int) ((word >>> (rollIdx % ROLLS_PER_LONG) * BITS_PER_ROLL) & ROLL_MASK);
+    }
+
+    public static void addTo(long low, long high, IGame game) {
+        int rollCount = getRollCount(high);
+        for (int rollIdx = 0; rollIdx < rollCount; rollIdx++) {
+            game.add(getRoll(low, high, rollIdx));
+        }
+    }
+
+    public EncodedGame withRoll(int pins) {
+        int rollCount = getRollCount();
+        if (rollCount == MAX_ROLLS) {
+            throw new IllegalStateException("an encoded game holds at most " + MAX_ROLLS + " rolls");
+        }
+        long roll = (long) checkPins(pins) << (rollCount % ROLLS_PER_LONG) * BITS_PER_ROLL;
+        long count = (long) (rollCount + 1) << COUNT_SHIFT;
+        long highRolls = high & ~(COUNT_MASK << COUNT_SHIFT);
+        return rollCount < ROLLS_PER_LONG
+                ? new EncodedGame(low | roll, highRolls | count)
+                : new EncodedGame(low, highRolls | roll | count);
+    }
+
+    public int getRollCount() {
+        return getRollCount(high);
+    }
+
+    private static int checkPins(int pins) {
+        if (pins < 0 || pins > ROLL_MASK) {
+            throw new IllegalArgumentException("pins out of range: " + pins);
+        }
+        return pins;
+    }
+
+    public int getRoll(int rollIdx) {
+        Objects.checkIndex(rollIdx, getRollCount());
+        return getRoll(low, high, rollIdx);
+    }
+
+    public int[] getRolls() {
+        int[] rolls = new int[getRollCount()];
+        for (int rollIdx = 0; rollIdx < rolls.length; rollIdx++) {
+            rolls[rollIdx] = getRoll(low, high, rollIdx);
+        }
+        return rolls;
+    }
+
+    public void addTo(IGame game) {
+        addTo(low, high, game);
+    }
+
+    public IGame decode(GameEngine engine) {
+        IGame game = engine.newGame();
+        addTo(game);
+        return game;
+    }
+
+    public void writeTo(ByteBuffer buffer) {
+        buffer.putLong(low);
+        buffer.putLong(high);
+    }
+
+    public void writeTo(ByteBuffer buffer, int recordIdx) {
+        int position = recordIdx * BYTES;
+        buffer.putLong(position, low);
+        buffer.putLong(position + Long.BYTES, high);
+    }
+
+    public long getLow() {
+        return low;
+    }
+
+    public long getHigh() {
+        return high;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof EncodedGame)) return false;
+        EncodedGame that = (EncodedGame) o;
+        return low == that.low && high == that.high;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(low, high);
+    }
+}
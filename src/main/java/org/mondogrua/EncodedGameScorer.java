@@ -0,0 +1,38 @@
+package org.mondogrua;
+
+import java.nio.ByteBuffer;
+
+public class EncodedGameScorer {
+    private final ArrayGame game = new ArrayGame();
+
+    public int getRecordCount(ByteBuffer records) {
+        return records.limit() / EncodedGame.BYTES;
+    }
+
+    public int getScore(ByteBuffer records, int recordIdx) {
+        return load(records, recordIdx).getScore();
+    }
+
+    public int currentFrame(ByteBuffer records, int recordIdx) {
+        return load(records, recordIdx).currentFrame();
+    }
+
+    public int getMaxPossibleScore(ByteBuffer records, int recordIdx) {
+        return load(records, recordIdx).getMaxPossibleScore();
+    }
+
+    public int[] getScores(ByteBuffer records) {
+        int[] scores = new int[getRecordCount(records)];
+        for (int recordIdx = 0; recordIdx < scores.length; recordIdx++) {
+            scores[recordIdx] = getScore(records, recordIdx);
+        }
+        return scores;
+    }
+
+    private IGame load(ByteBuffer records, int recordIdx) {
+        int position = recordIdx * EncodedGame.BYTES;
+        game.reset();
+        EncodedGame.addTo(records.getLong(position), records.getLong(position + Long.BYTES), game);
+        return game;
+    }
+}
@@ -1,449 +1,546 @@
 package org.mondogrua;
 
-import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-
 public class Frame implements IFrame {
+    private static final IRoll NULL_ROLL = new NullRoll();
+    private static final IFrame NULL_FRAME = new NullFrame();
+
     private final int index;
+    private final RunningScore runningScore;
+    private final GameListeners listeners;
+    private final GameMetrics metrics;
     private IFrame nextFrame;
-    private IRoll firstRoll = new NullRoll();
-    private IRoll secondRoll = new NullRoll();
-    private IRoll thirdRoll = new NullRoll();
-    private State state = new NotStarted();
-
-    public Frame(int index) {
+    private IRoll firstRoll = NULL_ROLL;
+    private IRoll secondRoll = NULL_ROLL;
+    private IRoll thirdRoll = NULL_ROLL;
+    private State state = State.NOT_STARTED;
+    private int partialScore;
+    private String report;
+
+    public Frame(int index, RunningScore runningScore, GameListeners listeners, GameMetrics metrics) {
         this.index = index;
-        this.nextFrame = new NullFrame();
+        this.runningScore = runningScore;
+        this.listeners = listeners;
+        this.metrics = metrics;
+        this.nextFrame = NULL_FRAME;
     }
 
     public void setNextFrame(Frame frame) {
-        this.nextFrame = frame != null ? frame : new NullFrame();
+        this.nextFrame = frame != null ? frame : NULL_FRAME;
     }
 
-    public void add(Roll roll) {
-        state.handle(roll);
-        state.setNextState();
-        state.passNext(roll);
+    @Override
+    public void reset() {
+        firstRoll = NULL_ROLL;
+        secondRoll = NULL_ROLL;
+        thirdRoll = NULL_ROLL;
+        state = State.NOT_STARTED;
+        partialScore = 0;
+        report = null;
+        nextFrame.reset();
     }
 
-    public void addReportTo(ReportAccumulator reportAccumulator, Integer previousFramePartialScore) {
-        reportAccumulator.add(getFrameReport(previousFramePartialScore));
-        nextFrame.addReportTo(reportAccumulator, getFramePartialScore(previousFramePartialScore).orElse(previousFramePartialScore));
+    public void add(Roll roll) {
+        state.handle(this, roll);
+        state.setNextState(this);
+        if (state.passesNext()) {
+            nextFrame.add(roll);
+        }
     }
 
     @Override
-    public Integer getLastPartialScore(Integer previousFramePartialScore) {
-        Optional<Integer> framePartialScore = getFramePartialScore(previousFramePartialScore);
-        if (framePartialScore.isEmpty()) {
-            return previousFramePartialScore;
+    public void addAll(int[] rolls, int from, int to) {
+        int passedFrom = to;
+        for (int rollIdx = from; rollIdx < to; rollIdx++) {
+            if (isFinished()) {
+                passedFrom = Math.min(passedFrom, rollIdx);
+                break;
+            }
+            state.handle(this, Roll.of(rolls[rollIdx]));
+            state.setNextState(this);
+            if (state.passesNext() && passedFrom == to) {
+                passedFrom = rollIdx;
+            }
         }
-        return nextFrame.getLastPartialScore(getFramePartialScore(previousFramePartialScore).orElse(previousFramePartialScore));
+        nextFrame.addAll(rolls, passedFrom, to);
+    }
+
+    public void addReportTo(ReportAccumulator reportAccumulator) {
+        if (report != null) {
+            reportAccumulator.addLine(report);
+        } else {
+            int lineStart = reportAccumulator.addFrame(index);
+            reportAccumulator.add(getRoll1Report());
+            reportAccumulator.add(getRoll2Report());
+            if (state.isScored()) {
+                reportAccumulator.addScore(partialScore);
+            }
+            report = reportAccumulator.lineFrom(lineStart);
+        }
+        nextFrame.addReportTo(reportAccumulator);
+    }
+
+    @Override
+    public void replay(int[] rolls, int rollIndex, int to, int position, int previousFramePartialScore) {
+        if (position + state.getRollCount() > rollIndex) {
+            runningScore.restore(previousFramePartialScore);
+            reset();
+            addAll(rolls, position, to);
+            return;
+        }
+        nextFrame.replay(rolls, rollIndex, to, position + (firstRoll.isStrike() ? 1 : 2), partialScore);
+    }
+
+    @Override
+    public void addRollsTo(RollAccumulator rollAccumulator, int position) {
+        firstRoll.addTo(rollAccumulator, position);
+        secondRoll.addTo(rollAccumulator, position + 1);
+        thirdRoll.addTo(rollAccumulator, position + 2);
+        nextFrame.addRollsTo(rollAccumulator, position + (firstRoll.isStrike() ? 1 : 2));
     }
 
     @Override
     public int currentFrame(Integer previousFrameIndex) {
-        return state.currentFrame(previousFrameIndex);
+        return state.currentFrame(this, previousFrameIndex);
     }
 
     @Override
     public void addPossibleScoreTo(ScoreAccumulator maxPossibleScoreAccumulator) {
-        state.addPossibleScoreTo(maxPossibleScoreAccumulator);
+        int first = firstRoll.getPins();
+        int second = secondRoll.getPins();
+        int third = thirdRoll.getPins();
+        if (FrameTable.covers(first, second, third)) {
+            maxPossibleScoreAccumulator.add(FrameTable.getMaxPossibleScore(state, first, second, third));
+        } else {
+            maxPossibleScoreAccumulator.add(state.getMaxPossibleScore(first, second, third));
+        }
         nextFrame.addPossibleScoreTo(maxPossibleScoreAccumulator);
     }
 
     @Override
     public int getPinsLeft(int previousPinsLeft) {
-        return state.getPinsLeft(previousPinsLeft);
+        int first = firstRoll.getPins();
+        int second = secondRoll.getPins();
+        int third = thirdRoll.getPins();
+        int pinsLeft = FrameTable.covers(first, second, third)
+                ? FrameTable.getPinsLeft(state, first, second, third)
+                : state.getPinsLeft(first, second, third);
+        return state.isComplete() ? nextFrame.getPinsLeft(pinsLeft) : pinsLeft;
     }
 
-    private Optional<Integer> getFramePartialScore(Integer previousFramePartialScore) {
-        return getFrameScore().map(frameScore -> previousFramePartialScore + frameScore);
+    private boolean isFinished() {
+        return state.passesNext() && state.isScored();
     }
 
-    private Optional<Integer> getFrameScore() {
-        return state.getFrameScore();
+    private int getPins() {
+        return firstRoll.getPins() + secondRoll.getPins() + thirdRoll.getPins();
     }
 
-    private Optional<Integer> getPins() {
-        ScoreAccumulator scoreAccumulator = new ScoreAccumulator();
-        firstRoll.addPinsTo(scoreAccumulator);
-        secondRoll.addPinsTo(scoreAccumulator);
-        thirdRoll.addPinsTo(scoreAccumulator);
-        return scoreAccumulator.value();
+    private String getRoll1Report() {
+        return state.getRoll1Report(this);
     }
 
-    private String getFrameReport(Integer previousFramePartialScore) {
-        return  Stream.of(
-                        getRoll1Report(),
-                        getRoll2Report(),
-                        getPartialScoreReport(previousFramePartialScore)
-                )
-                .filter(s -> s != null && !s.isEmpty())
-                .collect(Collectors.joining(", ", "Frame " + index + ": ", ""));
+    private String getRoll2Report() {
+        return state.getRoll2Report(this);
     }
 
-    private String getRoll1Report() {
-        return state.getRoll1Report();
+    private void setState(State state) {
+        State previousState = this.state;
+        if (!previousState.isScored() && state.isScored()) {
+            partialScore = runningScore.add(getPins());
+        }
+        this.state = state;
+        this.report = null;
+        metrics.stateEntered(state.name());
+        if (acceptsRoll(previousState, state)) {
+            metrics.rollsAdded(1);
+        }
+        if (!listeners.isMuted()) {
+            fireTransition(previousState, state);
+        }
     }
 
-    private String getRoll2Report() {
-        return state.getRoll2Report();
+    private boolean acceptsRoll(State previousState, State state) {
+        return !previousState.isComplete() || nextFrame == NULL_FRAME && isBonus(previousState, state);
     }
 
-    public String getPartialScoreReport(Integer previousFramePartialScore) {
-        return getFramePartialScore(previousFramePartialScore)
-                .map(framePartialScore -> "score: " + framePartialScore)
-                .orElse("");
+    private static boolean isBonus(State previousState, State state) {
+        return previousState.isComplete() && previousState.getRollCount() < state.getRollCount();
     }
 
-    private void setState(State state) {
-        this.state = state;
+    private void fireTransition(State previousState, State state) {
+        boolean lastFrame = nextFrame == NULL_FRAME;
+        boolean bonus = isBonus(previousState, state);
+        if (acceptsRoll(previousState, state)) {
+            fire(GameEvent.Type.ROLL_ACCEPTED);
+        }
+        if (!previousState.isComplete() && state.isComplete()) {
+            fire(GameEvent.Type.FRAME_COMPLETED);
+        }
+        if (bonus && state.isScored()) {
+            fire(GameEvent.Type.BONUS_RESOLVED);
+        }
+        if (!previousState.isScored() && state.isScored()) {
+            fire(GameEvent.Type.FRAME_SCORED);
+            if (lastFrame) {
+                fire(GameEvent.Type.GAME_OVER);
+            }
+        }
     }
 
-    // State:
-    // NotStarted
-    // OneRoll
-    // JustOpen
-    // Open
-    // Spare
-    // SpareWithBonus
-    // Strike
-    // StrikeWitOneBonus
-    // StrikeWithTwoBonuses
+    private void fire(GameEvent.Type type) {
+        listeners.fire(type, index, runningScore.value());
+    }
 
-    interface State {
-        default void setNextState() {}
+    enum State {
+        NOT_STARTED(0) {
+            @Override
+            public void setNextState(Frame frame) {
+                frame.setState(frame.firstRoll.isStrike() ? STRIKE : ONE_ROLL);
+            }
 
-        default void handle(Roll roll) {}
+            @Override
+            public void handle(Frame frame, Roll roll) {
+                frame.firstRoll = roll;
+            }
 
-        default Optional<Integer> getFrameScore() {
-            return Optional.empty();
-        }
+            @Override
+            public int currentFrame(Frame frame, Integer previousFrameIndex) {
+                return frame.index;
+            }
 
-        default void passNext(Roll roll) {}
+            @Override
+            public int getMaxPossibleScore(int first, int second, int third) {
+                return 3 * IRoll.MAX_PINS;
+            }
 
-        default String getRoll1Report() { return ""; }
+            @Override
+            public int getPinsLeft(int first, int second, int third) {
+                return IRoll.MAX_PINS;
+            }
+        },
 
-        default String getRoll2Report() { return ""; }
+        ONE_ROLL(1) {
+            @Override
+            public void setNextState(Frame frame) {
+                frame.setState(frame.getPins() == IRoll.MAX_PINS ? SPARE : JUST_OPEN);
+            }
 
-        int currentFrame(Integer previousFrameIndex);
+            @Override
+            public void handle(Frame frame, Roll roll) {
+                frame.secondRoll = roll;
+            }
 
-        void addPossibleScoreTo(ScoreAccumulator maxPossibleScoreAccumulator);
+            @Override
+            public String getRoll1Report(Frame frame) {
+                return frame.firstRoll.getReport();
+            }
 
-        int getPinsLeft(int previousPinsLeft);
-    }
+            @Override
+            public int currentFrame(Frame frame, Integer previousFrameIndex) {
+                return frame.index;
+            }
 
-    private class NotStarted implements State {
-        public void setNextState() {
-            setState(firstRoll.isStrike()? new Strike() : new OneRoll());
-        }
+            @Override
+            public int getMaxPossibleScore(int first, int second, int third) {
+                return 2 * IRoll.MAX_PINS;
+            }
 
-        @Override
-        public void handle(Roll roll) {
-            firstRoll = roll;
-        }
+            @Override
+            public int getPinsLeft(int first, int second, int third) {
+                return IRoll.MAX_PINS - first;
+            }
+        },
 
-        @Override
-        public int currentFrame(Integer previousFrameIndex) {
-            return index;
-        }
+        JUST_OPEN(2) {
+            @Override
+            public void setNextState(Frame frame) {
+                frame.setState(OPEN);
+            }
 
-        @Override
-        public void addPossibleScoreTo(ScoreAccumulator maxPossibleScoreAccumulator) {
-            firstRoll.addPossibleScoreTo(maxPossibleScoreAccumulator);
-            secondRoll.addPossibleScoreTo(maxPossibleScoreAccumulator);
-            thirdRoll.addPossibleScoreTo(maxPossibleScoreAccumulator);
-        }
+            @Override
+            public boolean isScored() {
+                return true;
+            }
 
-        @Override
-        public int getPinsLeft(int previousPinsLeft) {
-            return firstRoll.getPinsLeft();
-        }
-    }
+            @Override
+            public String getRoll1Report(Frame frame) {
+                return frame.firstRoll.getReport();
+            }
 
-    private class OneRoll implements State {
+            @Override
+            public String getRoll2Report(Frame frame) {
+                return frame.secondRoll.getReport();
+            }
 
-        @Override
-        public void setNextState() {
-            getPins().ifPresent(pins -> setState(pins.equals(IRoll.MAX_PINS) ? new Spare() : new JustOpen()));
-        }
+            @Override
+            public int currentFrame(Frame frame, Integer previousFrameIndex) {
+                return frame.nextFrame.currentFrame(-1);
+            }
 
-        @Override
-        public void handle(Roll roll) {
-            secondRoll = roll;
-        }
+            @Override
+            public int getMaxPossibleScore(int first, int second, int third) {
+                return first + second;
+            }
 
-        @Override
-        public String getRoll1Report() {
-            return firstRoll.getReport();
-        }
+            @Override
+            public int getPinsLeft(int first, int second, int third) {
+                return 0;
+            }
+        },
 
-        @Override
-        public int currentFrame(Integer previousFrameIndex) {
-            return index;
-        }
+        OPEN(2) {
+            @Override
+            public boolean isScored() {
+                return true;
+            }
 
-        @Override
-        public void addPossibleScoreTo(ScoreAccumulator maxPossibleScoreAccumulator) {
-            secondRoll.addPossibleScoreTo(maxPossibleScoreAccumulator);
-            thirdRoll.addPossibleScoreTo(maxPossibleScoreAccumulator);
-        }
+            @Override
+            public boolean passesNext() {
+                return true;
+            }
 
-        @Override
-        public int getPinsLeft(int previousPinsLeft) {
-            return firstRoll.getPinsLeft();
-        }
-    }
+            @Override
+            public String getRoll1Report(Frame frame) {
+                return frame.firstRoll.getReport();
+            }
 
-    private class JustOpen implements State {
-        @Override
-        public void setNextState() {
-            setState(new Open());
-        }
+            @Override
+            public String getRoll2Report(Frame frame) {
+                return frame.secondRoll.getReport();
+            }
 
-        @Override
-        public Optional<Integer> getFrameScore() {
-            return getPins();
-        }
+            @Override
+            public int currentFrame(Frame frame, Integer previousFrameIndex) {
+                return frame.nextFrame.currentFrame(-1);
+            }
 
-        @Override
-        public String getRoll1Report() {
-            return firstRoll.getReport();
-        }
-        @Override
-        public String getRoll2Report() {
-            return secondRoll.getReport();
-        }
+            @Override
+            public int getMaxPossibleScore(int first, int second, int third) {
+                return first + second;
+            }
 
-        @Override
-        public int currentFrame(Integer previousFrameIndex) {
-            return nextFrame.currentFrame(-1);
-        }
-        @Override
-        public void addPossibleScoreTo(ScoreAccumulator maxPossibleScoreAccumulator) {
-            firstRoll.addPossibleScoreTo(maxPossibleScoreAccumulator);
-            secondRoll.addPossibleScoreTo(maxPossibleScoreAccumulator);
-        }
+            @Override
+            public int getPinsLeft(int first, int second, int third) {
+                return 0;
+            }
+        },
 
-        @Override
-        public int getPinsLeft(int previousPinsLeft) {
-            return nextFrame.getPinsLeft(0);
-        }
-    }
+        SPARE(2) {
+            @Override
+            public void setNextState(Frame frame) {
+                frame.setState(SPARE_WITH_BONUS);
+            }
 
-    private class Open implements State {
+            @Override
+            public void handle(Frame frame, Roll roll) {
+                frame.thirdRoll = roll;
+            }
 
-        @Override
-        public Optional<Integer> getFrameScore() {
-            return getPins();
-        }
+            @Override
+            public String getRoll1Report(Frame frame) {
+                return frame.firstRoll.getReport();
+            }
 
-        @Override
-        public void passNext(Roll roll) {
-            nextFrame.add(roll);
-        }
-        @Override
-        public String getRoll1Report() {
-            return firstRoll.getReport();
-        }
-        @Override
-        public String getRoll2Report() {
-            return secondRoll.getReport();
-        }
+            @Override
+            public String getRoll2Report(Frame frame) {
+                return "/";
+            }
 
-        @Override
-        public int currentFrame(Integer previousFrameIndex) {
-            return nextFrame.currentFrame(-1);
-        }
-        @Override
-        public void addPossibleScoreTo(ScoreAccumulator maxPossibleScoreAccumulator) {
-            firstRoll.addPossibleScoreTo(maxPossibleScoreAccumulator);
-            secondRoll.addPossibleScoreTo(maxPossibleScoreAccumulator);
-        }
+            @Override
+            public int currentFrame(Frame frame, Integer previousFrameIndex) {
+                return frame.nextFrame.currentFrame(frame.index);
+            }
 
-        @Override
-        public int getPinsLeft(int previousPinsLeft) {
-            return nextFrame.getPinsLeft(0);
-        }
-    }
+            @Override
+            public int getMaxPossibleScore(int first, int second, int third) {
+                return first + second + IRoll.MAX_PINS;
+            }
 
-    private class Spare implements State {
-        @Override
-        public void setNextState() {
-            setState( new SpareWithBonus());
-        }
+            @Override
+            public int getPinsLeft(int first, int second, int third) {
+                return IRoll.MAX_PINS;
+            }
+        },
 
-        @Override
-        public void handle(Roll roll) {
-            thirdRoll = roll;
-        }
+        SPARE_WITH_BONUS(3) {
+            @Override
+            public boolean isScored() {
+                return true;
+            }
 
-        @Override
-        public String getRoll1Report() {
-            return firstRoll.getReport();
-        }
-        @Override
-        public String getRoll2Report() {
-            return "/";
-        }
+            @Override
+            public boolean passesNext() {
+                return true;
+            }
 
-        @Override
-        public int currentFrame(Integer previousFrameIndex) {
-            return nextFrame.currentFrame(index);
-        }
-        @Override
-        public void addPossibleScoreTo(ScoreAccumulator maxPossibleScoreAccumulator) {
-            firstRoll.addPossibleScoreTo(maxPossibleScoreAccumulator);
-            secondRoll.addPossibleScoreTo(maxPossibleScoreAccumulator);
-            thirdRoll.addPossibleScoreTo(maxPossibleScoreAccumulator);
-        }
+            @Override
+            public String getRoll1Report(Frame frame) {
+                return frame.firstRoll.getReport();
+            }
 
-        @Override
-        public int getPinsLeft(int previousPinsLeft) {
-            return nextFrame.getPinsLeft(10);
-        }
-    }
+            @Override
+            public String getRoll2Report(Frame frame) {
+                return "/";
+            }
 
-    private class SpareWithBonus implements State {
-        @Override
-        public Optional<Integer> getFrameScore() {
-            return getPins();
-        }
+            @Override
+            public int currentFrame(Frame frame, Integer previousFrameIndex) {
+                return frame.nextFrame.currentFrame(-1);
+            }
 
-        @Override
-        public void passNext(Roll roll) {
-            nextFrame.add(roll);
-        }
-        @Override
-        public String getRoll1Report() {
-            return firstRoll.getReport();
-        }
-        @Override
-        public String getRoll2Report() {
-            return "/";
-        }
+            @Override
+            public int getMaxPossibleScore(int first, int second, int third) {
+                return first + second + third;
+            }
 
-        @Override
-        public int currentFrame(Integer previousFrameIndex) {
-            return nextFrame.currentFrame(-1);
-        }
-        @Override
-        public void addPossibleScoreTo(ScoreAccumulator maxPossibleScoreAccumulator) {
-            firstRoll.addPossibleScoreTo(maxPossibleScoreAccumulator);
-            secondRoll.addPossibleScoreTo(maxPossibleScoreAccumulator);
-            thirdRoll.addPossibleScoreTo(maxPossibleScoreAccumulator);
-        }
+            @Override
+            public int getPinsLeft(int first, int second, int third) {
+                return 0;
+            }
+        },
 
-        @Override
-        public int getPinsLeft(int previousPinsLeft) {
-            return nextFrame.getPinsLeft(0);
-        }
-    }
+        STRIKE(1) {
+            @Override
+            public void setNextState(Frame frame) {
+                frame.setState(STRIKE_WITH_ONE_BONUS);
+            }
 
-    private class Strike implements State {
-        @Override
-        public void setNextState() {
-            setState( new StrikeWitOneBonus());
-        }
+            @Override
+            public void handle(Frame frame, Roll roll) {
+                frame.secondRoll = roll;
+            }
 
-        @Override
-        public void handle(Roll roll) {
-            secondRoll = roll;
-        }
+            @Override
+            public String getRoll2Report(Frame frame) {
+                return "X";
+            }
 
-        @Override
-        public String getRoll2Report() {
-            return "X";
-        }
+            @Override
+            public int currentFrame(Frame frame, Integer previousFrameIndex) {
+                return frame.nextFrame.currentFrame(frame.index);
+            }
 
-        @Override
-        public int currentFrame(Integer previousFrameIndex) {
-            return nextFrame.currentFrame(index);
-        }
-        @Override
-        public void addPossibleScoreTo(ScoreAccumulator maxPossibleScoreAccumulator) {
-            firstRoll.addPossibleScoreTo(maxPossibleScoreAccumulator);
-            secondRoll.addPossibleScoreTo(maxPossibleScoreAccumulator);
-            thirdRoll.addPossibleScoreTo(maxPossibleScoreAccumulator);
-        }
+            @Override
+            public int getMaxPossibleScore(int first, int second, int third) {
+                return first + 2 * IRoll.MAX_PINS;
+            }
 
-        @Override
-        public int getPinsLeft(int previousPinsLeft) {
-            return nextFrame.getPinsLeft(secondRoll.getPinsLeft());
-        }
-    }
+            @Override
+            public int getPinsLeft(int first, int second, int third) {
+                return IRoll.MAX_PINS;
+            }
+        },
 
-    private class StrikeWitOneBonus implements State {
-        @Override
-        public void setNextState() {
-            setState(new StrikeWithTwoBonuses());
-        }
+        STRIKE_WITH_ONE_BONUS(2) {
+            @Override
+            public void setNextState(Frame frame) {
+                frame.setState(STRIKE_WITH_TWO_BONUSES);
+            }
 
-        @Override
-        public void handle(Roll roll) {
-            thirdRoll = roll;
-        }
+            @Override
+            public void handle(Frame frame, Roll roll) {
+                frame.thirdRoll = roll;
+            }
 
-        @Override
-        public void passNext(Roll roll) {
-            nextFrame.add(roll);
-        }
-        @Override
-        public String getRoll2Report() {
-            return "X";
-        }
+            @Override
+            public boolean passesNext() {
+                return true;
+            }
 
-        @Override
-        public int currentFrame(Integer previousFrameIndex) {
-            return nextFrame.currentFrame(index);
-        }
-        @Override
-        public void addPossibleScoreTo(ScoreAccumulator maxPossibleScoreAccumulator) {
-            firstRoll.addPossibleScoreTo(maxPossibleScoreAccumulator);
-            if (secondRoll.isStrike()) {
-                secondRoll.addPossibleScoreTo(maxPossibleScoreAccumulator);
+            @Override
+            public String getRoll2Report(Frame frame) {
+                return "X";
             }
-            thirdRoll.addPossibleScoreTo(maxPossibleScoreAccumulator);
-        }
 
-        @Override
-        public int getPinsLeft(int previousPinsLeft) {
+            @Override
+            public int currentFrame(Frame frame, Integer previousFrameIndex) {
+                return frame.nextFrame.currentFrame(frame.index);
+            }
 
-            return nextFrame.getPinsLeft(secondRoll.getPinsLeft() != 0 ? secondRoll.getPinsLeft() : thirdRoll.getPinsLeft());
-        }
-    }
+            @Override
+            public int getMaxPossibleScore(int first, int second, int third) {
+                return first + (second == IRoll.MAX_PINS ? second : 0) + IRoll.MAX_PINS;
+            }
+
+            @Override
+            public int getPinsLeft(int first, int second, int third) {
+                return second != IRoll.MAX_PINS ? IRoll.MAX_PINS - second : IRoll.MAX_PINS;
+            }
+        },
+
+        STRIKE_WITH_TWO_BONUSES(3) {
+            @Override
+            public boolean isScored() {
+                return true;
+            }
+
+            @Override
+            public boolean passesNext() {
+                return true;
+            }
+
+            @Override
+            public String getRoll2Report(Frame frame) {
+                return "X";
+            }
+
+            @Override
+            public int currentFrame(Frame frame, Integer previousFrameIndex) {
+                return frame.nextFrame.currentFrame(-1);
+            }
+
+            @Override
+            public int getMaxPossibleScore(int first, int second, int third) {
+                return first + second + third;
+            }
+
+            @Override
+            public int getPinsLeft(int first, int second, int third) {
+                return 0;
+            }
+        };
 
-    private class StrikeWithTwoBonuses implements State {
-        @Override
-        public Optional<Integer> getFrameScore() {
-            return getPins();
+        private final int rollCount;
+
+        State(int rollCount) {
+            this.rollCount = rollCount;
         }
 
-        @Override
-        public void passNext(Roll roll) {
-            nextFrame.add(roll);
+        public int getRollCount() {
+            return rollCount;
         }
 
-        @Override
-        public String getRoll2Report() {
-            return "X";
+        public boolean isComplete() {
+            return this != NOT_STARTED && this != ONE_ROLL;
         }
 
-        @Override
-        public int currentFrame(Integer previousFrameIndex) {
-            return nextFrame.currentFrame(-1);
+        public void setNextState(Frame frame) {}
+
+        public void handle(Frame frame, Roll roll) {}
+
+        public boolean isScored() {
+            return false;
         }
-        @Override
-        public void addPossibleScoreTo(ScoreAccumulator maxPossibleScoreAccumulator) {
-            firstRoll.addPossibleScoreTo(maxPossibleScoreAccumulator);
-            secondRoll.addPossibleScoreTo(maxPossibleScoreAccumulator);
-            thirdRoll.addPossibleScoreTo(maxPossibleScoreAccumulator);
+
+        public boolean passesNext() {
+            return false;
         }
 
-        @Override
-        public int getPinsLeft(int previousPinsLeft) {
-            return nextFrame.getPinsLeft(0);
+        public String getRoll1Report(Frame frame) { return ""; }
+
+        public String getRoll2Report(Frame frame) { return ""; }
+
+        public abstract int currentFrame(Frame frame, Integer previousFrameIndex);
+
+        public int getScore(int first, int second, int third) {
+            if (!isScored()) {
+                return 0;
+            }
+            return first + (rollCount > 1 ? second : 0) + (rollCount > 2 ? third : 0);
         }
+
+        public abstract int getMaxPossibleScore(int first, int second, int third);
+
+        public abstract int getPinsLeft(int first, int second, int third);
     }
 }
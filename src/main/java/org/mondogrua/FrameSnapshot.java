@@ -0,0 +1,139 @@
+package org.mondogrua;
+
+import static org.mondogrua.IRoll.MAX_PINS;
+
+final class FrameSnapshot {
+    static final int FRAMES = 10;
+
+    private final FrameSnapshot previous;
+    private final byte index;
+    private final byte first;
+    private final byte second;
+    private final byte third;
+    private final byte rollCount;
+    private final short partialScore;
+    private final short maxPossibleScore;
+
+    private FrameSnapshot(FrameSnapshot previous, int index, int first, int second, int third, int rollCount) {
+        this.previous = previous;
+        this.index = (byte) index;
+        this.first = (byte) first;
+        this.second = (byte) second;
+        this.third = (byte) third;
+        this.rollCount = (byte) rollCount;
+        Frame.State state = getState();
+        int previousPartialScore = previous != null ? previous.partialScore : 0;
+        int previousMaxPossibleScore = previous != null ? previous.maxPossibleScore : 0;
+        this.partialScore = (short) (previousPartialScore + FrameTable.getScore(state, first, second, third));
+        this.maxPossibleScore = (short) (previousMaxPossibleScore + FrameTable.getMaxPossibleScore(state, first, second, third));
+    }
+
+    static FrameSnapshot add(FrameSnapshot top, int pins) {
+        if (top == null) {
+            return new FrameSnapshot(null, 1, pins, 0, 0, 1);
+        }
+        FrameSnapshot below = addBonus(top.previous, pins);
+        if (top.needsRoll()) {
+            return top.withRoll(below, pins);
+        }
+        FrameSnapshot current = top.isAwaitingBonus() ? top.withRoll(below, pins) : top.withPrevious(below);
+        if (top.index == FRAMES) {
+            return current;
+        }
+        return new FrameSnapshot(current, top.index + 1, pins, 0, 0, 1);
+    }
+
+    private static FrameSnapshot addBonus(FrameSnapshot frame, int pins) {
+        if (frame == null || !frame.isAwaitingBonus()) {
+            return frame;
+        }
+        return frame.withRoll(addBonus(frame.previous, pins), pins);
+    }
+
+    private FrameSnapshot withRoll(FrameSnapshot previous, int pins) {
+        return new FrameSnapshot(previous, index, first,
+                rollCount == 1 ? pins : second,
+                rollCount == 2 ? pins : third,
+                rollCount + 1);
+    }
+
+    private FrameSnapshot withPrevious(FrameSnapshot previous) {
+        if (previous == this.previous) {
+            return this;
+        }
+        return new FrameSnapshot(previous, index, first, second, third, rollCount);
+    }
+
+    int getIndex() {
+        return index;
+    }
+
+    int getFirst() {
+        return first;
+    }
+
+    FrameSnapshot getPrevious() {
+        return previous;
+    }
+
+    int getPartialScore() {
+        return partialScore;
+    }
+
+    int getMaxPossibleScore() {
+        return maxPossibleScore;
+    }
+
+    int getPinsLeft() {
+        return FrameTable.getPinsLeft(getState(), first, second, third);
+    }
+
+    boolean isStrike() {
+        return first == MAX_PINS;
+    }
+
+    boolean needsRoll() {
+        return rollCount == 1 && !isStrike();
+    }
+
+    boolean isAwaitingBonus() {
+        return rollCount < 3 && (isStrike() || rollCount == 2 && first + second == MAX_PINS);
+    }
+
+    boolean isScored() {
+        return getState().isScored();
+    }
+
+    Frame.State getState() {
+        if (isStrike()) {
+            return rollCount == 1 ? Frame.State.STRIKE
+                    : rollCount == 2 ? Frame.State.STRIKE_WITH_ONE_BONUS
+                    : Frame.State.STRIKE_WITH_TWO_BONUSES;
+        }
+        if (rollCount == 1) {
+            return Frame.State.ONE_ROLL;
+        }
+        if (first + second != MAX_PINS) {
+            return Frame.State.OPEN;
+        }
+        return rollCount == 2 ? Frame.State.SPARE : Frame.State.SPARE_WITH_BONUS;
+    }
+
+    void addReportTo(ReportAccumulator reportAccumulator) {
+        if (previous != null) {
+            previous.addReportTo(reportAccumulator);
+        }
+        reportAccumulator.addFrame(index);
+        if (isStrike()) {
+            reportAccumulator.add("X");
+        } else {
+            reportAccumulator.add(Roll.of(first).getReport());
+            if (rollCount > 1) {
+                reportAccumulator.add(first + second == MAX_PINS ? "/" : Roll.of(second).getReport());
+            }
+        }
+        if (isScored()) {
+            reportAccumulator.addScore(partialScore);
+        }
+    }
+}
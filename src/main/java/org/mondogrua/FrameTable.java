@@ -0,0 +1,48 @@
+package org.mondogrua;
+
+final class FrameTable {
+    private static final int PINS = IRoll.MAX_PINS + 1;
+    private static final int SIZE = Frame.State.values().length * PINS * PINS * PINS;
+
+    private static final short[] MAX_POSSIBLE_SCORES = new short[SIZE];
+    private static final byte[] PINS_LEFT = new byte[SIZE];
+    private static final short[] SCORES = new short[SIZE];
+
+    static {
+        for (Frame.State state : Frame.State.values()) {
+            for (int first = 0; first < PINS; first++) {
+                for (int second = 0; second < PINS; second++) {
+                    for (int third = 0; third < PINS; third++) {
+                        int index = indexOf(state, first, second, third);
+                        MAX_POSSIBLE_SCORES[index] = (short) state.getMaxPossibleScore(first, second, third);
+                        PINS_LEFT[index] = (byte) state.getPinsLeft(first, second, third);
+                        SCORES[index] = (short) state.getScore(first, second, third);
+                    }
+                }
+            }
+        }
+    }
+
+    private FrameTable() {
+    }
+
+    static boolean covers(int first, int second, int third) {
+        return (first | second | third) >= 0 && first < PINS && second < PINS && third < PINS;
+    }
+
+    static int getMaxPossibleScore(Frame.State state, int first, int second, int third) {
+        return MAX_POSSIBLE_SCORES[indexOf(state, first, second, third)];
+    }
+
+    static int getPinsLeft(Frame.State state, int first, int second, int third) {
+        return PINS_LEFT[indexOf(state, first, second, third)];
+    }
+
+    static int getScore(Frame.State state, int first, int second, int third) {
+        return SCORES[indexOf(state, first, second, third)];
+    }
+
+    private static int indexOf(Frame.State state, int first, int second, int third) {
+        return ((state.ordinal() * PINS + first) * PINS + second) * PINS + third;
+    }
+}
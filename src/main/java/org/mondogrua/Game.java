@@ -1,43 +1,150 @@
 package org.mondogrua;
 
-public class Game {
+import java.util.Objects;
 
-    private final Frame framesHead = new Frame(1);
+public class Game implements IListenableGame {
+    private static final int REPORT_CAPACITY = 320;
+
+    private final RunningScore runningScore = new RunningScore();
+    private final GameListeners listeners = new GameListeners(this::clearReport);
+    private final Frame framesHead;
+    private final ReportAccumulator reportAccumulator = new ReportAccumulator(new StringBuilder(REPORT_CAPACITY));
+    private String report;
 
     public Game() {
+        this(GameMetrics.NOOP);
+    }
+
+    public Game(GameMetrics metrics) {
+        framesHead = new Frame(1, runningScore, listeners, metrics);
         Frame previousFrame = framesHead;
         for (int frameIdx = 2; frameIdx <= 10; frameIdx++) {
-            Frame frame = new Frame(frameIdx);
+            Frame frame = new Frame(frameIdx, runningScore, listeners, metrics);
             previousFrame.setNextFrame(frame);
             previousFrame = frame;
         }
     }
 
+    @Override
+    public void addListener(GameListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(GameListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
     public void add(Roll roll) {
         this.framesHead.add(roll);
+        this.report = null;
+    }
+
+    @Override
+    public void add(int pins) {
+        add(Roll.of(pins));
+    }
+
+    @Override
+    public void addAll(int[] rolls, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, rolls.length);
+        if (listeners.isMuted()) {
+            this.framesHead.addAll(rolls, offset, offset + length);
+        } else {
+            for (int rollIdx = offset; rollIdx < offset + length; rollIdx++) {
+                this.framesHead.add(Roll.of(rolls[rollIdx]));
+            }
+        }
+        this.report = null;
+    }
+
+    @Override
+    public void reset() {
+        this.runningScore.reset();
+        this.framesHead.reset();
+        this.report = null;
+        fireCorrected();
+    }
+
+    @Override
+    public void undo() {
+        int[] rolls = getRolls();
+        if (rolls.length > 0) {
+            replay(rolls, rolls.length - 1, rolls.length - 1);
+        }
+    }
+
+    @Override
+    public void correct(int rollIndex, int pins) {
+        int[] rolls = getRolls();
+        Objects.checkIndex(rollIndex, rolls.length);
+        rolls[rollIndex] = pins;
+        replay(rolls, rollIndex, rolls.length);
+    }
+
+    @Override
+    public int[] getRolls() {
+        RollAccumulator rollAccumulator = new RollAccumulator();
+        framesHead.addRollsTo(rollAccumulator, 0);
+        return rollAccumulator.value();
     }
 
-    public Integer getScore() {
-        return framesHead.getLastPartialScore(0);
+    @Override
+    public int getScore() {
+        return runningScore.value();
     }
 
+    @Override
     public String getReport() {
-        ReportAccumulator reportAccumulator = new ReportAccumulator();
-        framesHead.addReportTo(reportAccumulator, 0);
-        return reportAccumulator.value();
+        if (report == null) {
+            reportAccumulator.reset();
+            framesHead.addReportTo(reportAccumulator);
+            report = reportAccumulator.value();
+        }
+        return report;
+    }
+
+    @Override
+    public void writeReportTo(StringBuilder report) {
+        framesHead.addReportTo(new ReportAccumulator(report));
     }
 
+    @Override
     public int currentFrame() {
         return framesHead.currentFrame(-1);
     }
 
+    @Override
     public int getMaxPossibleScore() {
         ScoreAccumulator maxPossibleScoreAccumulator = new ScoreAccumulator();
         framesHead.addPossibleScoreTo(maxPossibleScoreAccumulator);
-        return maxPossibleScoreAccumulator.value().orElse(0);
+        return maxPossibleScoreAccumulator.value();
     }
 
+    @Override
     public int getPinsLeft() {
         return framesHead.getPinsLeft(0);
     }
+
+    private void replay(int[] rolls, int rollIndex, int to) {
+        this.listeners.mute();
+        try {
+            this.framesHead.replay(rolls, rollIndex, to, 0, 0);
+        } finally {
+            this.listeners.unmute();
+        }
+        this.report = null;
+        fireCorrected();
+    }
+
+    private void clearReport() {
+        this.report = null;
+    }
+
+    private void fireCorrected() {
+        if (!listeners.isMuted()) {
+            listeners.fire(GameEvent.Type.CORRECTED, currentFrame(), getScore());
+        }
+    }
 }
@@ -0,0 +1,111 @@
+package org.mondogrua;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class GameArchive implements Closeable {
+    private static final String DATA_FILE = "games.dat";
+    private static final String INDEX_FILE = "games.idx";
+
+    private final MappedFile data;
+    private final MappedFile index;
+    private final ByteBuffer record = ByteBuffer.allocate(EncodedGame.BYTES);
+    private final ByteBuffer offset = ByteBuffer.allocate(Long.BYTES);
+    private final ArrayGame game = new ArrayGame();
+
+    private GameArchive(MappedFile data, MappedFile index) {
+        this.data = data;
+        this.index = index;
+    }
+
+    public static GameArchive open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        MappedFile data = new MappedFile(directory.resolve(DATA_FILE));
+        try {
+            return new GameArchive(data, new MappedFile(directory.resolve(INDEX_FILE)));
+        } catch (IOException e) {
+            data.close();
+            throw e;
+        }
+    }
+
+    public long size() {
+        return index.size() / Long.BYTES;
+    }
+
+    public long append(IGame game) throws IOException {
+        long id = size();
+        writeOffset(id, appendRecord(EncodedGame.of(game)));
+        return id;
+    }
+
+    public void update(long id, IGame game) throws IOException {
+        checkId(id);
+        writeOffset(id, appendRecord(EncodedGame.of(game)));
+    }
+
+    public EncodedGame read(long id) throws IOException {
+        checkId(id);
+        long position = index.getLong(id * Long.BYTES);
+        return new EncodedGame(data.getLong(position), data.getLong(position + Long.BYTES));
+    }
+
+    public IGame load(long id, GameEngine engine) throws IOException {
+        return read(id).decode(engine);
+    }
+
+    public int getScore(long id) throws IOException {
+        return scratch(id).getScore();
+    }
+
+    public String getReport(long id) throws IOException {
+        return scratch(id).getReport();
+    }
+
+    public int getMaxPossibleScore(long id) throws IOException {
+        return scratch(id).getMaxPossibleScore();
+    }
+
+    public void flush() throws IOException {
+        data.force();
+        index.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            data.close();
+        } finally {
+            index.close();
+        }
+    }
+
+    private IGame scratch(long id) throws IOException {
+        game.reset();
+        read(id).addTo(game);
+        return game;
+    }
+
+    private long appendRecord(EncodedGame encodedGame) throws IOException {
+        record.clear();
+        encodedGame.writeTo(record);
+        record.flip();
+        return data.append(record);
+    }
+
+    private void writeOffset(long id, long position) throws IOException {
+        offset.clear();
+        offset.putLong(position);
+        offset.flip();
+        index.write(offset, id * Long.BYTES);
+    }
+
+    private void checkId(long id) {
+        if (id < 0 || id >= size()) {
+            throw new IndexOutOfBoundsException("no game with id " + id);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package org.mondogrua;
+
+public enum GameEngine {
+    FRAMES {
+        @Override
+        public IGame newGame() {
+            return new Game();
+        }
+    },
+    ARRAY {
+        @Override
+        public IGame newGame() {
+            return new ArrayGame();
+        }
+    };
+
+    public abstract IGame newGame();
+}
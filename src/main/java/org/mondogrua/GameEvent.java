@@ -0,0 +1,54 @@
+package org.mondogrua;
+
+import java.util.Objects;
+
+public final class GameEvent {
+    public enum Type {
+        ROLL_ACCEPTED,
+        FRAME_COMPLETED,
+        BONUS_RESOLVED,
+        FRAME_SCORED,
+        GAME_OVER,
+        CORRECTED
+    }
+
+    private final Type type;
+    private final int frameIndex;
+    private final int partialScore;
+
+    public GameEvent(Type type, int frameIndex, int partialScore) {
+        this.type = type;
+        this.frameIndex = frameIndex;
+        this.partialScore = partialScore;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public int getFrameIndex() {
+        return frameIndex;
+    }
+
+    public int getPartialScore() {
+        return partialScore;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof GameEvent)) return false;
+        GameEvent that = (GameEvent) o;
+        return type == that.type && frameIndex == that.frameIndex && partialScore == that.partialScore;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, frameIndex, partialScore);
+    }
+
+    @Override
+    public String toString() {
+        return type + " frame " + frameIndex + ", score: " + partialScore;
+    }
+}
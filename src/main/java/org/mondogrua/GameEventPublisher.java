@@ -0,0 +1,11 @@
+package org.mondogrua;
+
+import java.util.concurrent.SubmissionPublisher;
+
+public class GameEventPublisher extends SubmissionPublisher<GameEvent> implements GameListener {
+
+    @Override
+    public void onEvent(GameEvent event) {
+        submit(event);
+    }
+}
@@ -0,0 +1,6 @@
+package org.mondogrua;
+
+@FunctionalInterface
+public interface GameListener {
+    void onEvent(GameEvent event);
+}
@@ -0,0 +1,56 @@
+package org.mondogrua;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class GameListeners implements GameListener {
+    private final List<GameListener> listeners = new CopyOnWriteArrayList<>();
+    private final Runnable beforeEvent;
+    private boolean muted;
+
+    public GameListeners() {
+        this(() -> {});
+    }
+
+    public GameListeners(Runnable beforeEvent) {
+        this.beforeEvent = beforeEvent;
+    }
+
+    public void add(GameListener listener) {
+        listeners.add(listener);
+    }
+
+    public void remove(GameListener listener) {
+        listeners.remove(listener);
+    }
+
+    public boolean isEmpty() {
+        return listeners.isEmpty();
+    }
+
+    public boolean isMuted() {
+        return muted || listeners.isEmpty();
+    }
+
+    public void mute() {
+        muted = true;
+    }
+
+    public void unmute() {
+        muted = false;
+    }
+
+    public void fire(GameEvent.Type type, int frameIndex, int partialScore) {
+        if (!isMuted()) {
+            beforeEvent.run();
+            onEvent(new GameEvent(type, frameIndex, partialScore));
+        }
+    }
+
+    @Override
+    public void onEvent(GameEvent event) {
+        for (GameListener listener : listeners) {
+            listener.onEvent(event);
+        }
+    }
+}
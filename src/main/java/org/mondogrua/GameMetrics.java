@@ -0,0 +1,24 @@
+package org.mondogrua;
+
+public interface GameMetrics {
+    GameMetrics NOOP = new GameMetrics() {};
+
+    enum Operation {
+        ADD,
+        UNDO,
+        CORRECT,
+        RESET,
+        SCORE,
+        REPORT,
+        ROLLS,
+        CURRENT_FRAME,
+        MAX_POSSIBLE_SCORE,
+        PINS_LEFT
+    }
+
+    default void rollsAdded(int count) {}
+
+    default void stateEntered(String state) {}
+
+    default void operationTimed(Operation operation, long nanos, long allocatedBytes) {}
+}
@@ -0,0 +1,32 @@
+package org.mondogrua;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+public class GamePool {
+    private final GameEngine engine;
+    private final int capacity;
+    private final ThreadLocal<Deque<IGame>> games;
+
+    public GamePool(GameEngine engine, int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative: " + capacity);
+        }
+        this.engine = engine;
+        this.capacity = capacity;
+        this.games = ThreadLocal.withInitial(() -> new ArrayDeque<>(capacity));
+    }
+
+    public IGame acquire() {
+        IGame game = games.get().pollFirst();
+        return game != null ? game : engine.newGame();
+    }
+
+    public void release(IGame game) {
+        Deque<IGame> pool = games.get();
+        if (pool.size() < capacity) {
+            game.reset();
+            pool.addFirst(game);
+        }
+    }
+}
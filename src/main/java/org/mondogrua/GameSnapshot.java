@@ -0,0 +1,99 @@
+package org.mondogrua;
+
+import static org.mondogrua.IRoll.MAX_PINS;
+
+public final class GameSnapshot {
+    public static final GameSnapshot EMPTY = new GameSnapshot(null);
+
+    private static final int REPORT_CAPACITY = 320;
+
+    private final FrameSnapshot top;
+
+    private GameSnapshot(FrameSnapshot top) {
+        this.top = top;
+    }
+
+    public static GameSnapshot of(int... rolls) {
+        GameSnapshot snapshot = EMPTY;
+        for (int pins : rolls) {
+            snapshot = snapshot.add(pins);
+        }
+        return snapshot;
+    }
+
+    public GameSnapshot add(int pins) {
+        if (pins < 0 || pins > MAX_PINS) {
+            throw new IllegalArgumentException("pins out of range: " + pins);
+        }
+        if (isOver()) {
+            return this;
+        }
+        return new GameSnapshot(FrameSnapshot.add(top, pins));
+    }
+
+    public GameSnapshot add(Roll roll) {
+        return add(roll.getPins());
+    }
+
+    public int getScore() {
+        for (FrameSnapshot frame = top; frame != null; frame = frame.getPrevious()) {
+            if (frame.isScored()) {
+                return frame.getPartialScore();
+            }
+        }
+        return 0;
+    }
+
+    public String getReport() {
+        StringBuilder report = new StringBuilder(REPORT_CAPACITY);
+        writeReportTo(report);
+        return report.toString();
+    }
+
+    public void writeReportTo(StringBuilder report) {
+        ReportAccumulator reportAccumulator = new ReportAccumulator(report);
+        if (top != null) {
+            top.addReportTo(reportAccumulator);
+        }
+        for (int frameIdx = startedFrames() + 1; frameIdx <= FrameSnapshot.FRAMES; frameIdx++) {
+            reportAccumulator.addFrame(frameIdx);
+        }
+    }
+
+    public int currentFrame() {
+        if (top == null) {
+            return 1;
+        }
+        if (top.needsRoll()) {
+            return top.getIndex();
+        }
+        if (top.getIndex() < FrameSnapshot.FRAMES) {
+            return top.getIndex() + 1;
+        }
+        return top.isAwaitingBonus() ? top.getIndex() : -1;
+    }
+
+    public int getMaxPossibleScore() {
+        int notStartedFrames = FrameSnapshot.FRAMES - startedFrames();
+        int startedFramesMaxPossibleScore = top != null ? top.getMaxPossibleScore() : 0;
+        return startedFramesMaxPossibleScore + notStartedFrames * 3 * MAX_PINS;
+    }
+
+    public int getPinsLeft() {
+        if (top == null) {
+            return MAX_PINS;
+        }
+        if (top.needsRoll()) {
+            return MAX_PINS - top.getFirst();
+        }
+        return top.getIndex() < FrameSnapshot.FRAMES ? MAX_PINS : top.getPinsLeft();
+    }
+
+    public boolean isOver() {
+        return top != null && top.getIndex() == FrameSnapshot.FRAMES && !top.needsRoll() && !top.isAwaitingBonus();
+    }
+
+    private int startedFrames() {
+        return top != null ? top.getIndex() : 0;
+    }
+}
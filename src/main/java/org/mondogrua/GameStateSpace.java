@@ -0,0 +1,117 @@
+package org.mondogrua;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class GameStateSpace {
+    static final int END = -1;
+    static final int MAX_SCORE = 300;
+    static final int FRAMES = 10;
+
+    private static final int PINS = IRoll.MAX_PINS + 1;
+    private static final int FIRST_ROLL = 0;
+    private static final int SECOND_ROLL = 1;
+    private static final int SECOND_ROLL_AFTER_STRIKE = 2;
+    private static final int BONUS_ROLL = 3;
+    private static final int ROLLS = 4;
+    private static final int BONUSES = 3;
+    private static final int LATER_BONUSES = 2;
+
+    static final int STATES = FRAMES * ROLLS * PINS * BONUSES * LATER_BONUSES;
+    static final int START = stateOf(1, FIRST_ROLL, IRoll.MAX_PINS, 0, 0);
+
+    private GameStateSpace() {
+    }
+
+    static int next(int state, int pins) {
+        int frame = getFrame(state);
+        int roll = getRoll(state);
+        int standing = getStandingPins(state);
+        int laterBonus = getLaterBonus(state);
+        boolean allDown = pins == standing;
+        if (frame < FRAMES) {
+            if (roll == FIRST_ROLL && allDown) {
+                return stateOf(frame + 1, FIRST_ROLL, IRoll.MAX_PINS, laterBonus + 1, 1);
+            }
+            if (roll == FIRST_ROLL) {
+                return stateOf(frame, SECOND_ROLL, standing - pins, laterBonus, 0);
+            }
+            return stateOf(frame + 1, FIRST_ROLL, IRoll.MAX_PINS, allDown ? 1 : 0, 0);
+        }
+        switch (roll) {
+            case FIRST_ROLL:
+                return allDown
+                        ? stateOf(frame, SECOND_ROLL_AFTER_STRIKE, IRoll.MAX_PINS, laterBonus, 0)
+                        : stateOf(frame, SECOND_ROLL, standing - pins, laterBonus, 0);
+            case SECOND_ROLL:
+                return allDown ? stateOf(frame, BONUS_ROLL, IRoll.MAX_PINS, 0, 0) : END;
+            case SECOND_ROLL_AFTER_STRIKE:
+                return stateOf(frame, BONUS_ROLL, allDown ? IRoll.MAX_PINS : standing - pins, 0, 0);
+            default:
+                return END;
+        }
+    }
+
+    static int getPoints(int state, int pins) {
+        return pins * (1 + getBonus(state));
+    }
+
+    static int getStandingPins(int state) {
+        return state / (BONUSES * LATER_BONUSES) % PINS;
+    }
+
+    static int[][] layers() {
+        List<int[]> layers = new ArrayList<>();
+        for (int frame = FRAMES; frame >= 1; frame--) {
+            if (frame == FRAMES) {
+                layers.add(statesOf(frame, BONUS_ROLL));
+                layers.add(concat(statesOf(frame, SECOND_ROLL), statesOf(frame, SECOND_ROLL_AFTER_STRIKE)));
+            } else {
+                layers.add(statesOf(frame, SECOND_ROLL));
+            }
+            layers.add(statesOf(frame, FIRST_ROLL));
+        }
+        return layers.toArray(new int[0][]);
+    }
+
+    private static int[] statesOf(int frame, int roll) {
+        boolean rack = roll == FIRST_ROLL || roll == SECOND_ROLL_AFTER_STRIKE;
+        int[] states = new int[(rack ? 1 : PINS) * BONUSES * LATER_BONUSES];
+        int stateIdx = 0;
+        for (int standing = rack ? IRoll.MAX_PINS : 0; standing < PINS; standing++) {
+            for (int bonus = 0; bonus < BONUSES; bonus++) {
+                for (int laterBonus = 0; laterBonus < LATER_BONUSES; laterBonus++) {
+                    states[stateIdx++] = stateOf(frame, roll, standing, bonus, laterBonus);
+                }
+            }
+        }
+        return states;
+    }
+
+    private static int[] concat(int[] first, int[] second) {
+        int[] states = new int[first.length + second.length];
+        System.arraycopy(first, 0, states, 0, first.length);
+        System.arraycopy(second, 0, states, first.length, second.length);
+        return states;
+    }
+
+    private static int stateOf(int frame, int roll, int standing, int bonus, int laterBonus) {
+        return ((((frame - 1) * ROLLS + roll) * PINS + standing) * BONUSES + bonus) * LATER_BONUSES + laterBonus;
+    }
+
+    private static int getFrame(int state) {
+        return state / (ROLLS * PINS * BONUSES * LATER_BONUSES) + 1;
+    }
+
+    private static int getRoll(int state) {
+        return state / (PINS * BONUSES * LATER_BONUSES) % ROLLS;
+    }
+
+    private static int getBonus(int state) {
+        return state / LATER_BONUSES % BONUSES;
+    }
+
+    private static int getLaterBonus(int state) {
+        return state % LATER_BONUSES;
+    }
+}
@@ -0,0 +1,82 @@
+package org.mondogrua;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+public class GameStats implements GameMetrics, GameStatsMXBean {
+    private final LongAdder rolls = new LongAdder();
+    private final Map<String, LongAdder> states = new ConcurrentHashMap<>();
+    private final Map<Operation, LatencyHistogram> operations = new EnumMap<>(Operation.class);
+
+    public GameStats() {
+        for (Operation operation : Operation.values()) {
+            operations.put(operation, new LatencyHistogram());
+        }
+    }
+
+    public ObjectName register(String name) throws JMException {
+        ObjectName objectName = new ObjectName("org.mondogrua:type=GameStats,name=" + name);
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        return objectName;
+    }
+
+    @Override
+    public void rollsAdded(int count) {
+        rolls.add(count);
+    }
+
+    @Override
+    public void stateEntered(String state) {
+        states.computeIfAbsent(state, key -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void operationTimed(Operation operation, long nanos, long allocatedBytes) {
+        operations.get(operation).record(nanos, allocatedBytes);
+    }
+
+    @Override
+    public long getRollCount() {
+        return rolls.sum();
+    }
+
+    @Override
+    public Map<String, Long> getStateCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        states.forEach((state, count) -> counts.put(state, count.sum()));
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getOperationCounts() {
+        return byOperation(LatencyHistogram::getCount);
+    }
+
+    @Override
+    public Map<String, Long> getOperationMeanNanos() {
+        return byOperation(LatencyHistogram::getMeanNanos);
+    }
+
+    @Override
+    public Map<String, Long> getOperationP99Nanos() {
+        return byOperation(histogram -> histogram.getPercentileNanos(99));
+    }
+
+    @Override
+    public Map<String, Long> getOperationMeanAllocatedBytes() {
+        return byOperation(LatencyHistogram::getMeanAllocatedBytes);
+    }
+
+    private Map<String, Long> byOperation(ToLongFunction<LatencyHistogram> value) {
+        Map<String, Long> values = new TreeMap<>();
+        operations.forEach((operation, histogram) -> values.put(operation.name(), value.applyAsLong(histogram)));
+        return values;
+    }
+}
@@ -0,0 +1,17 @@
+package org.mondogrua;
+
+import java.util.Map;
+
+public interface GameStatsMXBean {
+    long getRollCount();
+
+    Map<String, Long> getStateCounts();
+
+    Map<String, Long> getOperationCounts();
+
+    Map<String, Long> getOperationMeanNanos();
+
+    Map<String, Long> getOperationP99Nanos();
+
+    Map<String, Long> getOperationMeanAllocatedBytes();
+}
@@ -1,10 +1,17 @@
 package org.mondogrua;
 
 public interface IFrame {
-    void addReportTo(ReportAccumulator reportAccumulator, Integer previousFramePartialScore);
+    void addReportTo(ReportAccumulator reportAccumulator);
+
+    void addRollsTo(RollAccumulator rollAccumulator, int position);
+
+    void reset();
 
     void add(Roll roll);
-    Integer getLastPartialScore(Integer previousFramePartialScore);
+
+    void addAll(int[] rolls, int from, int to);
+
+    void replay(int[] rolls, int rollIndex, int to, int position, int previousFramePartialScore);
 
     int currentFrame(Integer previousFrameIndex);
 
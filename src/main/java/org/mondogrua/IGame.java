@@ -0,0 +1,48 @@
+package org.mondogrua;
+
+import java.nio.ByteBuffer;
+import java.util.stream.IntStream;
+
+public interface IGame {
+    void add(Roll roll);
+
+    void add(int pins);
+
+    void addAll(int[] rolls, int offset, int length);
+
+    default void addAll(int[] rolls) {
+        addAll(rolls, 0, rolls.length);
+    }
+
+    default void addAll(IntStream rolls) {
+        addAll(rolls.toArray());
+    }
+
+    default void addAll(ByteBuffer rolls) {
+        int[] pins = new int[rolls.remaining()];
+        for (int rollIdx = 0; rollIdx < pins.length; rollIdx++) {
+            pins[rollIdx] = rolls.get();
+        }
+        addAll(pins);
+    }
+
+    void reset();
+
+    void undo();
+
+    void correct(int rollIndex, int pins);
+
+    int[] getRolls();
+
+    int getScore();
+
+    String getReport();
+
+    void writeReportTo(StringBuilder report);
+
+    int currentFrame();
+
+    int getMaxPossibleScore();
+
+    int getPinsLeft();
+}
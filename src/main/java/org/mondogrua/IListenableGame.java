@@ -0,0 +1,7 @@
+package org.mondogrua;
+
+public interface IListenableGame extends IGame {
+    void addListener(GameListener listener);
+
+    void removeListener(GameListener listener);
+}
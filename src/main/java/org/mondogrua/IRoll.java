@@ -5,13 +5,11 @@ import java.util.Optional;
 public interface IRoll {
     int MAX_PINS = 10;
 
-    void addPinsTo(ScoreAccumulator accumulator);
+    int getPins();
 
-    String getReport();
+    void addTo(RollAccumulator rollAccumulator, int position);
 
-    void addPossibleScoreTo(ScoreAccumulator maxPossibleScoreAccumulator);
+    String getReport();
 
     boolean isStrike();
-
-    int getPinsLeft();
 }
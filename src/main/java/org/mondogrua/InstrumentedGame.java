@@ -0,0 +1,152 @@
+package org.mondogrua;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static org.mondogrua.GameMetrics.Operation;
+
+public class InstrumentedGame implements IGame {
+    private static final com.sun.management.ThreadMXBean THREADS = allocationCounter();
+
+    private final IGame game;
+    private final GameMetrics metrics;
+
+    public InstrumentedGame(GameMetrics metrics) {
+        this(new Game(metrics), metrics);
+    }
+
+    public InstrumentedGame(IGame game, GameMetrics metrics) {
+        this.game = game;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void add(Roll roll) {
+        long allocatedBytes = allocatedBytes();
+        long start = System.nanoTime();
+        game.add(roll);
+        timed(Operation.ADD, start, allocatedBytes);
+    }
+
+    @Override
+    public void add(int pins) {
+        long allocatedBytes = allocatedBytes();
+        long start = System.nanoTime();
+        game.add(pins);
+        timed(Operation.ADD, start, allocatedBytes);
+    }
+
+    @Override
+    public void addAll(int[] rolls, int offset, int length) {
+        long allocatedBytes = allocatedBytes();
+        long start = System.nanoTime();
+        game.addAll(rolls, offset, length);
+        timed(Operation.ADD, start, allocatedBytes);
+    }
+
+    @Override
+    public void reset() {
+        long allocatedBytes = allocatedBytes();
+        long start = System.nanoTime();
+        game.reset();
+        timed(Operation.RESET, start, allocatedBytes);
+    }
+
+    @Override
+    public void undo() {
+        long allocatedBytes = allocatedBytes();
+        long start = System.nanoTime();
+        game.undo();
+        timed(Operation.UNDO, start, allocatedBytes);
+    }
+
+    @Override
+    public void correct(int rollIndex, int pins) {
+        long allocatedBytes = allocatedBytes();
+        long start = System.nanoTime();
+        game.correct(rollIndex, pins);
+        timed(Operation.CORRECT, start, allocatedBytes);
+    }
+
+    @Override
+    public int[] getRolls() {
+        long allocatedBytes = allocatedBytes();
+        long start = System.nanoTime();
+        int[] rolls = game.getRolls();
+        timed(Operation.ROLLS, start, allocatedBytes);
+        return rolls;
+    }
+
+    @Override
+    public int getScore() {
+        long allocatedBytes = allocatedBytes();
+        long start = System.nanoTime();
+        int score = game.getScore();
+        timed(Operation.SCORE, start, allocatedBytes);
+        return score;
+    }
+
+    @Override
+    public String getReport() {
+        long allocatedBytes = allocatedBytes();
+        long start = System.nanoTime();
+        String report = game.getReport();
+        timed(Operation.REPORT, start, allocatedBytes);
+        return report;
+    }
+
+    @Override
+    public void writeReportTo(StringBuilder report) {
+        long allocatedBytes = allocatedBytes();
+        long start = System.nanoTime();
+        game.writeReportTo(report);
+        timed(Operation.REPORT, start, allocatedBytes);
+    }
+
+    @Override
+    public int currentFrame() {
+        long allocatedBytes = allocatedBytes();
+        long start = System.nanoTime();
+        int currentFrame = game.currentFrame();
+        timed(Operation.CURRENT_FRAME, start, allocatedBytes);
+        return currentFrame;
+    }
+
+    @Override
+    public int getMaxPossibleScore() {
+        long allocatedBytes = allocatedBytes();
+        long start = System.nanoTime();
+        int maxPossibleScore = game.getMaxPossibleScore();
+        timed(Operation.MAX_POSSIBLE_SCORE, start, allocatedBytes);
+        return maxPossibleScore;
+    }
+
+    @Override
+    public int getPinsLeft() {
+        long allocatedBytes = allocatedBytes();
+        long start = System.nanoTime();
+        int pinsLeft = game.getPinsLeft();
+        timed(Operation.PINS_LEFT, start, allocatedBytes);
+        return pinsLeft;
+    }
+
+    private void timed(Operation operation, long start, long allocatedBytes) {
+        long nanos = System.nanoTime() - start;
+        metrics.operationTimed(operation, nanos, allocatedBytes() - allocatedBytes);
+    }
+
+    private static long allocatedBytes() {
+        return THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationCounter() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+            if (allocations.isThreadAllocatedMemorySupported() && allocations.isThreadAllocatedMemoryEnabled()) {
+                return allocations;
+            }
+        }
+        return null;
+    }
+}
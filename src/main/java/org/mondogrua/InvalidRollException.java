@@ -0,0 +1,48 @@
+package org.mondogrua;
+
+public class InvalidRollException extends IllegalArgumentException {
+    private static final long serialVersionUID = 1L;
+
+    public enum Reason {
+        NEGATIVE_PINS,
+        TOO_MANY_PINS,
+        MORE_PINS_THAN_STANDING,
+        GAME_OVER
+    }
+
+    private final Reason reason;
+    private final int rollIndex;
+    private final int pins;
+    private final int pinsLeft;
+
+    public InvalidRollException(Reason reason, int rollIndex, int pins, int pinsLeft) {
+        super(messageOf(reason, rollIndex, pins, pinsLeft));
+        this.reason = reason;
+        this.rollIndex = rollIndex;
+        this.pins = pins;
+        this.pinsLeft = pinsLeft;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    public int getRollIndex() {
+        return rollIndex;
+    }
+
+    public int getPins() {
+        return pins;
+    }
+
+    public int getPinsLeft() {
+        return pinsLeft;
+    }
+
+    private static String messageOf(Reason reason, int rollIndex, int pins, int pinsLeft) {
+        if (reason == Reason.GAME_OVER) {
+            return "game is over, extra roll " + rollIndex + ": " + pins;
+        }
+        return "pins must be between 0 and " + pinsLeft + ": " + pins;
+    }
+}
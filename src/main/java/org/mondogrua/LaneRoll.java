@@ -0,0 +1,24 @@
+package org.mondogrua;
+
+public final class LaneRoll {
+    private final int laneId;
+    private final int pins;
+
+    public LaneRoll(int laneId, int pins) {
+        this.laneId = laneId;
+        this.pins = pins;
+    }
+
+    public int getLaneId() {
+        return laneId;
+    }
+
+    public int getPins() {
+        return pins;
+    }
+
+    @Override
+    public String toString() {
+        return "lane " + laneId + ", pins: " + pins;
+    }
+}
@@ -0,0 +1,65 @@
+package org.mondogrua;
+
+import java.util.Objects;
+
+public final class LaneScore {
+    private final int laneId;
+    private final int score;
+    private final int currentFrame;
+    private final String error;
+
+    public LaneScore(int laneId, int score, int currentFrame) {
+        this(laneId, score, currentFrame, null);
+    }
+
+    public LaneScore(int laneId, int score, int currentFrame, String error) {
+        this.laneId = laneId;
+        this.score = score;
+        this.currentFrame = currentFrame;
+        this.error = error;
+    }
+
+    public int getLaneId() {
+        return laneId;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getCurrentFrame() {
+        return currentFrame;
+    }
+
+    public boolean isGameOver() {
+        return currentFrame == -1;
+    }
+
+    public boolean isRejected() {
+        return error != null;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LaneScore)) return false;
+        LaneScore that = (LaneScore) o;
+        return laneId == that.laneId && score == that.score && currentFrame == that.currentFrame
+                && Objects.equals(error, that.error);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(laneId, score, currentFrame, error);
+    }
+
+    @Override
+    public String toString() {
+        String laneScore = "lane " + laneId + ", frame " + currentFrame + ", score: " + score;
+        return isRejected() ? laneScore + ", rejected: " + error : laneScore;
+    }
+}
@@ -0,0 +1,120 @@
+package org.mondogrua;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+
+public class LaneScorer extends SubmissionPublisher<LaneScore> implements Flow.Processor<LaneRoll, LaneScore> {
+    public static final int DEFAULT_REQUEST_SIZE = 256;
+
+    private final GameEngine engine;
+    private final int requestSize;
+    private final Deque<IGame> idle;
+    private final Map<Integer, IGame> lanes = new HashMap<>();
+    private Flow.Subscription subscription;
+    private int outstanding;
+
+    public LaneScorer() {
+        this(GameEngine.FRAMES, ForkJoinPool.commonPool(), Flow.defaultBufferSize(), DEFAULT_REQUEST_SIZE);
+    }
+
+    public LaneScorer(GameEngine engine, Executor executor, int maxBufferCapacity, int requestSize) {
+        super(executor, maxBufferCapacity);
+        if (requestSize <= 0) {
+            throw new IllegalArgumentException("requestSize must be positive: " + requestSize);
+        }
+        this.engine = engine;
+        this.requestSize = requestSize;
+        this.idle = new ArrayDeque<>(requestSize);
+    }
+
+    public int getActiveLanes() {
+        return lanes.size();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        request();
+    }
+
+    @Override
+    public void onNext(LaneRoll roll) {
+        LaneScore laneScore;
+        try {
+            laneScore = score(roll);
+        } catch (RuntimeException e) {
+            subscription.cancel();
+            onError(e);
+            return;
+        }
+        submit(laneScore);
+        if (--outstanding <= requestSize / 2) {
+            request();
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        releaseLanes();
+        closeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        releaseLanes();
+        close();
+    }
+
+    private LaneScore score(LaneRoll roll) {
+        int laneId = roll.getLaneId();
+        IGame game = lanes.get(laneId);
+        if (game == null) {
+            game = acquire();
+            lanes.put(laneId, game);
+        }
+        try {
+            game.add(roll.getPins());
+        } catch (InvalidRollException e) {
+            return new LaneScore(laneId, game.getScore(), game.currentFrame(), e.getMessage());
+        }
+        LaneScore laneScore = new LaneScore(laneId, game.getScore(), game.currentFrame());
+        if (laneScore.isGameOver()) {
+            lanes.remove(laneId);
+            release(game);
+        }
+        return laneScore;
+    }
+
+    private IGame acquire() {
+        IGame game = idle.pollFirst();
+        return game != null ? game : new ValidatingGame(engine.newGame());
+    }
+
+    private void release(IGame game) {
+        if (idle.size() < requestSize) {
+            game.reset();
+            idle.addFirst(game);
+        }
+    }
+
+    private void releaseLanes() {
+        lanes.values().forEach(this::release);
+        lanes.clear();
+    }
+
+    private void request() {
+        int count = requestSize - outstanding;
+        outstanding += count;
+        subscription.request(count);
+    }
+}
@@ -0,0 +1,135 @@
+package org.mondogrua;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class LaneServer implements Closeable {
+    private static final System.Logger LOG = System.getLogger(LaneServer.class.getName());
+    private static final long MIN_BACKOFF_MILLIS = 10;
+    private static final long MAX_BACKOFF_MILLIS = 1000;
+
+    private final ServerSocket serverSocket;
+    private final GameEngine engine;
+    private final ExecutorService sessions;
+    private final Set<Socket> clients = ConcurrentHashMap.newKeySet();
+    private final Thread acceptor;
+
+    private LaneServer(ServerSocket serverSocket, GameEngine engine) {
+        this.serverSocket = serverSocket;
+        this.engine = engine;
+        this.sessions = newSessionExecutor();
+        this.acceptor = new Thread(this::accept, "lane-server-" + serverSocket.getLocalPort());
+    }
+
+    public static LaneServer start(int port) throws IOException {
+        return start(port, GameEngine.FRAMES);
+    }
+
+    public static LaneServer start(int port, GameEngine engine) throws IOException {
+        ServerSocket serverSocket = new ServerSocket();
+        serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+        LaneServer server = new LaneServer(serverSocket, engine);
+        server.acceptor.start();
+        return server;
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public int getSessionCount() {
+        return clients.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        for (Socket client : clients) {
+            client.close();
+        }
+        sessions.shutdown();
+    }
+
+    private void accept() {
+        long backoffMillis = 0;
+        while (!serverSocket.isClosed()) {
+            Socket client;
+            try {
+                client = serverSocket.accept();
+            } catch (IOException e) {
+                if (serverSocket.isClosed()) {
+                    return;
+                }
+                backoffMillis = Math.min(Math.max(2 * backoffMillis, MIN_BACKOFF_MILLIS), MAX_BACKOFF_MILLIS);
+                LOG.log(System.Logger.Level.WARNING, "accept failed, retrying in " + backoffMillis + " ms", e);
+                if (!pause(backoffMillis)) {
+                    return;
+                }
+                continue;
+            }
+            backoffMillis = 0;
+            open(client);
+        }
+    }
+
+    private void open(Socket client) {
+        try {
+            client.setTcpNoDelay(true);
+            clients.add(client);
+            sessions.execute(() -> serve(client));
+        } catch (IOException | RuntimeException e) {
+            clients.remove(client);
+            try {
+                client.close();
+            } catch (IOException closeFailure) {
+                e.addSuppressed(closeFailure);
+            }
+            LOG.log(System.Logger.Level.WARNING, "could not open a session for " + client.getRemoteSocketAddress(), e);
+        }
+    }
+
+    private static boolean pause(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void serve(Socket client) {
+        try (client) {
+            new LaneSession(engine.newGame()).serve(client.getInputStream(), client.getOutputStream());
+        } catch (IOException e) {
+            // the lane disconnected, nothing left to answer
+        } finally {
+            clients.remove(client);
+        }
+    }
+
+    static ExecutorService newSessionExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 7070;
+        try (LaneServer server = start(port)) {
+            System.out.println("Lane server listening on " + server.getPort());
+            server.acceptor.join();
+        }
+    }
+}
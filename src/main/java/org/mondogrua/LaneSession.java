@@ -0,0 +1,64 @@
+package org.mondogrua;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+class LaneSession {
+    private final IGame game;
+
+    LaneSession(IGame game) {
+        this.game = new ValidatingGame(game);
+    }
+
+    void serve(InputStream in, OutputStream out) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.US_ASCII));
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.US_ASCII));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            writer.write(answer(line.trim()));
+            writer.write('\n');
+            writer.flush();
+        }
+    }
+
+    String answer(String command) {
+        if (command.startsWith("add ")) {
+            return add(command.substring("add ".length()).trim());
+        }
+        switch (command) {
+            case "score":
+                return Integer.toString(game.getScore());
+            case "report":
+                String report = game.getReport();
+                return report.isEmpty() ? report : report + '\n';
+            case "pinsLeft":
+                return Integer.toString(game.getPinsLeft());
+            case "currentFrame":
+                return Integer.toString(game.currentFrame());
+            default:
+                return "error unknown command: " + command;
+        }
+    }
+
+    private String add(String argument) {
+        int pins;
+        try {
+            pins = Integer.parseInt(argument);
+        } catch (NumberFormatException e) {
+            return "error pins must be a number: " + argument;
+        }
+        try {
+            game.add(pins);
+        } catch (InvalidRollException e) {
+            return "error " + e.getMessage();
+        }
+        return "ok";
+    }
+}
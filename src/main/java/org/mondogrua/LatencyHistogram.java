@@ -0,0 +1,57 @@
+package org.mondogrua;
+
+import java.util.concurrent.atomic.LongAdder;
+
+class LatencyHistogram {
+    private final LongAdder[] buckets = new LongAdder[Long.SIZE];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder totalAllocatedBytes = new LongAdder();
+
+    LatencyHistogram() {
+        for (int bucketIdx = 0; bucketIdx < buckets.length; bucketIdx++) {
+            buckets[bucketIdx] = new LongAdder();
+        }
+    }
+
+    void record(long nanos, long allocatedBytes) {
+        buckets[bucketOf(nanos)].increment();
+        count.increment();
+        totalNanos.add(nanos);
+        totalAllocatedBytes.add(allocatedBytes);
+    }
+
+    long getCount() {
+        return count.sum();
+    }
+
+    long getMeanNanos() {
+        long count = getCount();
+        return count == 0 ? 0 : totalNanos.sum() / count;
+    }
+
+    long getMeanAllocatedBytes() {
+        long count = getCount();
+        return count == 0 ? 0 : totalAllocatedBytes.sum() / count;
+    }
+
+    long getPercentileNanos(double percentile) {
+        long rank = (long) Math.ceil(getCount() * percentile / 100);
+        long seen = 0;
+        for (int bucketIdx = 0; bucketIdx < buckets.length; bucketIdx++) {
+            seen += buckets[bucketIdx].sum();
+            if (seen >= rank && seen > 0) {
+                return upperBoundOf(bucketIdx);
+            }
+        }
+        return 0;
+    }
+
+    private static int bucketOf(long nanos) {
+        return nanos <= 0 ? 0 : Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+    }
+
+    private static long upperBoundOf(int bucketIdx) {
+        return bucketIdx == Long.SIZE - 2 ? Long.MAX_VALUE : (2L << bucketIdx) - 1;
+    }
+}
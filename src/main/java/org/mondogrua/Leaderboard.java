@@ -0,0 +1,119 @@
+package org.mondogrua;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+public class Leaderboard {
+    private final Map<String, Standing> standings = new ConcurrentHashMap<>();
+    private final Map<String, Tracked> games = new ConcurrentHashMap<>();
+    private final NavigableSet<Standing> byScore = new ConcurrentSkipListSet<>(Standing.BY_SCORE);
+    private final NavigableSet<Standing> byMaxPossibleScore = new ConcurrentSkipListSet<>(Standing.BY_MAX_POSSIBLE_SCORE);
+
+    public void track(String player, IListenableGame game) {
+        Tracked tracked = new Tracked(player, game);
+        if (games.putIfAbsent(player, tracked) != null) {
+            throw new IllegalArgumentException("player already tracked: " + player);
+        }
+        try {
+            game.addListener(tracked);
+            update(player, game.getScore(), game.getMaxPossibleScore());
+        } catch (RuntimeException e) {
+            untrack(player);
+            throw e;
+        }
+    }
+
+    public void untrack(String player) {
+        Tracked tracked = games.remove(player);
+        if (tracked != null) {
+            tracked.game.removeListener(tracked);
+            standings.computeIfPresent(player, (key, standing) -> {
+                byScore.remove(standing);
+                byMaxPossibleScore.remove(standing);
+                return null;
+            });
+        }
+    }
+
+    public int size() {
+        return standings.size();
+    }
+
+    public Standing getStanding(String player) {
+        return standings.get(player);
+    }
+
+    public List<Standing> byScore(int limit) {
+        return first(byScore, limit);
+    }
+
+    public List<Standing> byMaxPossibleScore(int limit) {
+        return first(byMaxPossibleScore, limit);
+    }
+
+    public List<Standing> getContenders() {
+        List<Standing> contenders = new ArrayList<>();
+        if (byScore.isEmpty()) {
+            return contenders;
+        }
+        int leadingScore = byScore.first().getScore();
+        for (Standing standing : byMaxPossibleScore) {
+            if (standing.getMaxPossibleScore() < leadingScore) {
+                break;
+            }
+            contenders.add(standing);
+        }
+        return contenders;
+    }
+
+    private void update(String player, int score, int maxPossibleScore) {
+        standings.compute(player, (key, previous) -> {
+            if (!games.containsKey(player)) {
+                return previous;
+            }
+            if (previous != null) {
+                if (previous.getScore() == score && previous.getMaxPossibleScore() == maxPossibleScore) {
+                    return previous;
+                }
+                byScore.remove(previous);
+                byMaxPossibleScore.remove(previous);
+            }
+            Standing standing = new Standing(player, score, maxPossibleScore);
+            byScore.add(standing);
+            byMaxPossibleScore.add(standing);
+            return standing;
+        });
+    }
+
+    private static List<Standing> first(NavigableSet<Standing> standings, int limit) {
+        List<Standing> first = new ArrayList<>(Math.min(limit, standings.size()));
+        for (Standing standing : standings) {
+            if (first.size() == limit) {
+                break;
+            }
+            first.add(standing);
+        }
+        return first;
+    }
+
+    private class Tracked implements GameListener {
+        private final String player;
+        private final IListenableGame game;
+
+        Tracked(String player, IListenableGame game) {
+            this.player = player;
+            this.game = game;
+        }
+
+        @Override
+        public void onEvent(GameEvent event) {
+            if (event.getType() == GameEvent.Type.ROLL_ACCEPTED || event.getType() == GameEvent.Type.CORRECTED) {
+                update(player, event.getPartialScore(), game.getMaxPossibleScore());
+            }
+        }
+    }
+}
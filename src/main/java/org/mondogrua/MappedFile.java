@@ -0,0 +1,76 @@
+package org.mondogrua;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+class MappedFile implements Closeable {
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+    private static final long SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private final FileChannel channel;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private long size;
+
+    MappedFile(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.size = channel.size();
+    }
+
+    long size() {
+        return size;
+    }
+
+    long append(ByteBuffer record) throws IOException {
+        long position = size;
+        write(record, position);
+        return position;
+    }
+
+    void write(ByteBuffer record, long position) throws IOException {
+        long end = position + record.remaining();
+        while (record.hasRemaining()) {
+            position += channel.write(record, position);
+        }
+        size = Math.max(size, end);
+    }
+
+    long getLong(long position) throws IOException {
+        int offset = (int) (position & SEGMENT_MASK);
+        return segment(position, offset + Long.BYTES).getLong(offset);
+    }
+
+    void force() throws IOException {
+        channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        segments.clear();
+        channel.close();
+    }
+
+    private MappedByteBuffer segment(long position, int required) throws IOException {
+        if (position + Long.BYTES > size) {
+            throw new IndexOutOfBoundsException("position " + position + " is past the end of the file");
+        }
+        int segmentIdx = (int) (position >>> SEGMENT_SHIFT);
+        while (segments.size() <= segmentIdx) {
+            segments.add(null);
+        }
+        MappedByteBuffer segment = segments.get(segmentIdx);
+        if (segment == null || segment.limit() < required) {
+            long start = (long) segmentIdx << SEGMENT_SHIFT;
+            segment = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(SEGMENT_SIZE, size - start));
+            segments.set(segmentIdx, segment);
+        }
+        return segment;
+    }
+}
@@ -1,11 +1,17 @@
 package org.mondogrua;
 
-import java.util.Optional;
-
 public class NullFrame implements IFrame {
 
     @Override
-    public void addReportTo(ReportAccumulator reportAccumulator, Integer previousFramePartialScore) {
+    public void addReportTo(ReportAccumulator reportAccumulator) {
+    }
+
+    @Override
+    public void addRollsTo(RollAccumulator rollAccumulator, int position) {
+    }
+
+    @Override
+    public void reset() {
     }
 
     @Override
@@ -13,8 +19,11 @@ public class NullFrame implements IFrame {
     }
 
     @Override
-    public Integer getLastPartialScore(Integer previousFramePartialScore) {
-        return previousFramePartialScore;
+    public void addAll(int[] rolls, int from, int to) {
+    }
+
+    @Override
+    public void replay(int[] rolls, int rollIndex, int to, int position, int previousFramePartialScore) {
     }
 
     @Override
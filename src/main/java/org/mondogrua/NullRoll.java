@@ -5,26 +5,21 @@ import java.util.Optional;
 public class NullRoll implements IRoll {
 
     @Override
-    public void addPinsTo(ScoreAccumulator accumulator) {
+    public int getPins() {
+        return 0;
     }
 
     @Override
-    public String getReport() {
-        return "";
+    public void addTo(RollAccumulator rollAccumulator, int position) {
     }
 
     @Override
-    public void addPossibleScoreTo(ScoreAccumulator maxPossibleScoreAccumulator) {
-        maxPossibleScoreAccumulator.add(MAX_PINS);
+    public String getReport() {
+        return "";
     }
 
     @Override
     public boolean isStrike() {
         return false;
     }
-
-    @Override
-    public int getPinsLeft() {
-        return MAX_PINS;
-    }
 }
@@ -0,0 +1,25 @@
+package org.mondogrua;
+
+@FunctionalInterface
+public interface PinModel {
+
+    double getProbability(int pinsStanding, int pins);
+
+    static PinModel uniform() {
+        return (pinsStanding, pins) -> 1.0 / (pinsStanding + 1);
+    }
+
+    static PinModel fromCounts(long[][] counts) {
+        if (counts.length != IRoll.MAX_PINS + 1) {
+            throw new IllegalArgumentException("counts must have a row for 0.." + IRoll.MAX_PINS + " pins standing");
+        }
+        long[][] copy = new long[counts.length][];
+        for (int pinsStanding = 0; pinsStanding < counts.length; pinsStanding++) {
+            if (counts[pinsStanding].length != pinsStanding + 1) {
+                throw new IllegalArgumentException("counts for " + pinsStanding + " pins standing must have " + (pinsStanding + 1) + " entries");
+            }
+            copy[pinsStanding] = counts[pinsStanding].clone();
+        }
+        return (pinsStanding, pins) -> copy[pinsStanding][pins];
+    }
+}
@@ -1,16 +1,61 @@
 package org.mondogrua;
 
 public class ReportAccumulator {
-    private String accumulator = "";
+    private final StringBuilder accumulator;
+    private boolean emptyReport = true;
+    private boolean emptyFrame = true;
+
+    public ReportAccumulator() {
+        this(new StringBuilder());
+    }
+
+    public ReportAccumulator(StringBuilder accumulator) {
+        this.accumulator = accumulator;
+    }
+
+    public void addLine(String line) {
+        if (!emptyReport) accumulator.append('\n');
+        accumulator.append(line);
+        emptyReport = false;
+    }
+
+    public int addFrame(int index) {
+        if (!emptyReport) accumulator.append('\n');
+        int lineStart = accumulator.length();
+        accumulator.append("Frame ").append(index).append(": ");
+        emptyReport = false;
+        emptyFrame = true;
+        return lineStart;
+    }
 
     public void add(String report) {
         if(report != null && !report.isEmpty()) {
-            if (accumulator.length() > 0) accumulator += "\n";
-            accumulator += report;
+            separate();
+            accumulator.append(report);
         }
     }
 
+    public void addScore(int partialScore) {
+        separate();
+        accumulator.append("score: ").append(partialScore);
+    }
+
+    public String lineFrom(int lineStart) {
+        return accumulator.substring(lineStart);
+    }
+
     public String value() {
-        return this.accumulator;
+        return accumulator.toString();
+    }
+
+    public void reset() {
+        accumulator.setLength(0);
+        emptyReport = true;
+        emptyFrame = true;
+    }
+
+    private void separate() {
+        if (!emptyFrame) accumulator.append(", ");
+        emptyFrame = false;
     }
 }
@@ -3,34 +3,43 @@ package org.mondogrua;
 import java.util.Optional;
 
 public class Roll implements IRoll {
-    private final Integer pins;
+    private static final Roll[] ROLLS = new Roll[MAX_PINS + 1];
+
+    static {
+        for (int pins = 0; pins <= MAX_PINS; pins++) {
+            ROLLS[pins] = new Roll(pins);
+        }
+    }
+
+    private final int pins;
+    private final String report;
 
     public Roll(int pins) {
         this.pins = pins;
+        this.report = Integer.toString(pins);
     }
 
-    @Override
-    public void addPinsTo(ScoreAccumulator accumulator) {
-        accumulator.add(pins);
+    public static Roll of(int pins) {
+        return pins >= 0 && pins <= MAX_PINS ? ROLLS[pins] : new Roll(pins);
     }
 
     @Override
-    public String getReport() {
-        return pins.toString();
+    public int getPins() {
+        return pins;
     }
 
     @Override
-    public void addPossibleScoreTo(ScoreAccumulator maxPossibleScoreAccumulator) {
-        maxPossibleScoreAccumulator.add(pins);
+    public void addTo(RollAccumulator rollAccumulator, int position) {
+        rollAccumulator.set(position, pins);
     }
 
     @Override
-    public boolean isStrike() {
-        return pins.equals(MAX_PINS);
+    public String getReport() {
+        return report;
     }
 
     @Override
-    public int getPinsLeft() {
-        return MAX_PINS - pins;
+    public boolean isStrike() {
+        return pins == MAX_PINS;
     }
 }
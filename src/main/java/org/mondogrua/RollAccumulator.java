@@ -0,0 +1,19 @@
+package org.mondogrua;
+
+import java.util.Arrays;
+
+public class RollAccumulator {
+    private static final int MAX_ROLLS = 21;
+
+    private final int[] rolls = new int[MAX_ROLLS];
+    private int count;
+
+    public void set(int position, int pins) {
+        rolls[position] = pins;
+        count = Math.max(count, position + 1);
+    }
+
+    public int[] value() {
+        return Arrays.copyOf(rolls, count);
+    }
+}
@@ -0,0 +1,87 @@
+package org.mondogrua;
+
+public class RollValidator {
+    private static final int PINS = IRoll.MAX_PINS + 1;
+    private static final int GAME_OVER = GameStateSpace.STATES;
+    private static final short[] NEXT_STATES = new short[GameStateSpace.STATES * PINS];
+    private static final byte[] PINS_LEFT = new byte[GameStateSpace.STATES + 1];
+
+    static {
+        for (int state = 0; state < GameStateSpace.STATES; state++) {
+            int pinsStanding = GameStateSpace.getStandingPins(state);
+            PINS_LEFT[state] = (byte) pinsStanding;
+            for (int pins = 0; pins <= pinsStanding; pins++) {
+                int next = GameStateSpace.next(state, pins);
+                NEXT_STATES[state * PINS + pins] = (short) (next == GameStateSpace.END ? GAME_OVER : next);
+            }
+        }
+        PINS_LEFT[GAME_OVER] = -1;
+    }
+
+    private int state;
+    private int pinsLeft;
+    private int rollCount;
+
+    public RollValidator() {
+        reset();
+    }
+
+    public static RollValidator of(int[] rolls, int offset, int length) {
+        RollValidator validator = new RollValidator();
+        for (int rollIdx = offset; rollIdx < offset + length; rollIdx++) {
+            validator.accept(rolls[rollIdx]);
+        }
+        return validator;
+    }
+
+    public void accept(int pins) {
+        if ((pins | (pinsLeft - pins)) < 0) {
+            throw reject(pins);
+        }
+        state = NEXT_STATES[state * PINS + pins];
+        pinsLeft = PINS_LEFT[state];
+        rollCount++;
+    }
+
+    public boolean isValid(int pins) {
+        return (pins | (pinsLeft - pins)) >= 0;
+    }
+
+    public void reset() {
+        state = GameStateSpace.START;
+        pinsLeft = IRoll.MAX_PINS;
+        rollCount = 0;
+    }
+
+    public int getPinsLeft() {
+        return Math.max(pinsLeft, 0);
+    }
+
+    public int getRollCount() {
+        return rollCount;
+    }
+
+    public boolean isGameOver() {
+        return state == GAME_OVER;
+    }
+
+    void copyFrom(RollValidator other) {
+        state = other.state;
+        pinsLeft = other.pinsLeft;
+        rollCount = other.rollCount;
+    }
+
+    private InvalidRollException reject(int pins) {
+        InvalidRollException.Reason reason;
+        if (isGameOver()) {
+            reason = InvalidRollException.Reason.GAME_OVER;
+        } else if (pins < 0) {
+            reason = InvalidRollException.Reason.NEGATIVE_PINS;
+        } else if (pins > IRoll.MAX_PINS) {
+            reason = InvalidRollException.Reason.TOO_MANY_PINS;
+        } else {
+            reason = InvalidRollException.Reason.MORE_PINS_THAN_STANDING;
+        }
+        return new InvalidRollException(reason, rollCount, pins, getPinsLeft());
+    }
+}
@@ -0,0 +1,22 @@
+package org.mondogrua;
+
+public class RunningScore {
+    private int score;
+
+    public int add(int frameScore) {
+        score += frameScore;
+        return score;
+    }
+
+    public void reset() {
+        restore(0);
+    }
+
+    public void restore(int score) {
+        this.score = score;
+    }
+
+    public int value() {
+        return score;
+    }
+}
@@ -1,18 +1,13 @@
 package org.mondogrua;
 
-import java.util.Optional;
-
 public class ScoreAccumulator {
-    private Integer accumulator = null;
+    private int accumulator;
 
-    public void add(Integer score) {
-        if (score == null) {
-            return;
-        }
-        accumulator = accumulator == null? score : accumulator + score;
+    public void add(int score) {
+        accumulator += score;
     }
 
-    public Optional<Integer> value() {
-        return Optional.ofNullable(accumulator);
+    public int value() {
+        return accumulator;
     }
 }
@@ -0,0 +1,131 @@
+package org.mondogrua;
+
+import java.util.stream.IntStream;
+
+import static org.mondogrua.GameStateSpace.END;
+import static org.mondogrua.GameStateSpace.MAX_SCORE;
+
+public final class ScoreDistribution {
+    private static volatile long[][] completions;
+
+    private final long[] counts;
+
+    private ScoreDistribution(long[] counts) {
+        this.counts = counts;
+    }
+
+    public static ScoreDistribution of(IGame game) {
+        return of(game.getRolls());
+    }
+
+    public static ScoreDistribution of(int... rolls) {
+        int state = GameStateSpace.START;
+        int points = 0;
+        for (int pins : rolls) {
+            if (state == END) {
+                throw new IllegalArgumentException("game is over, extra roll: " + pins);
+            }
+            if (pins < 0 || pins > GameStateSpace.getStandingPins(state)) {
+                throw new IllegalArgumentException("pins must be between 0 and " + GameStateSpace.getStandingPins(state) + ": " + pins);
+            }
+            points += GameStateSpace.getPoints(state, pins);
+            state = GameStateSpace.next(state, pins);
+        }
+        long[] counts = new long[MAX_SCORE + 1];
+        if (state == END) {
+            counts[points] = 1;
+        } else {
+            long[] stateCompletions = completions()[state];
+            for (int remaining = 0; points + remaining <= MAX_SCORE; remaining++) {
+                counts[points + remaining] = stateCompletions[remaining];
+            }
+        }
+        return new ScoreDistribution(counts);
+    }
+
+    public long getCount(int score) {
+        return score >= 0 && score <= MAX_SCORE ? counts[score] : 0;
+    }
+
+    public long getTotalCount() {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    public long[] getCounts() {
+        return counts.clone();
+    }
+
+    public int getMinScore() {
+        int score = 0;
+        while (counts[score] == 0) {
+            score++;
+        }
+        return score;
+    }
+
+    public int getMaxScore() {
+        int score = MAX_SCORE;
+        while (counts[score] == 0) {
+            score--;
+        }
+        return score;
+    }
+
+    public double getMeanScore() {
+        double total = 0;
+        double weighted = 0;
+        for (int score = 0; score <= MAX_SCORE; score++) {
+            total += counts[score];
+            weighted += (double) counts[score] * score;
+        }
+        return weighted / total;
+    }
+
+    @Override
+    public String toString() {
+        return "scores " + getMinScore() + ".." + getMaxScore() + " over " + getTotalCount() + " completions";
+    }
+
+    private static long[][] completions() {
+        long[][] counted = completions;
+        if (counted == null) {
+            synchronized (ScoreDistribution.class) {
+                counted = completions;
+                if (counted == null) {
+                    counted = countCompletions();
+                    completions = counted;
+                }
+            }
+        }
+        return counted;
+    }
+
+    private static long[][] countCompletions() {
+        long[][] completions = new long[GameStateSpace.STATES][];
+        for (int[] layer : GameStateSpace.layers()) {
+            IntStream.of(layer).parallel().forEach(state -> completions[state] = countCompletions(completions, state));
+        }
+        return completions;
+    }
+
+    private static long[] countCompletions(long[][] completions, int state) {
+        long[] counts = new long[MAX_SCORE + 1];
+        for (int pins = 0; pins <= GameStateSpace.getStandingPins(state); pins++) {
+            int points = GameStateSpace.getPoints(state, pins);
+            int next = GameStateSpace.next(state, pins);
+            if (next == END) {
+                counts[points]++;
+                continue;
+            }
+            long[] nextCounts = completions[next];
+            for (int remaining = 0; points + remaining <= MAX_SCORE; remaining++) {
+                counts[points + remaining] += nextCounts[remaining];
+            }
+        }
+        return counts;
+    }
+}
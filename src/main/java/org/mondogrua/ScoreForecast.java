@@ -0,0 +1,59 @@
+package org.mondogrua;
+
+import java.util.List;
+
+import static org.mondogrua.GameStateSpace.MAX_SCORE;
+
+public final class ScoreForecast {
+    private final double[] probabilities;
+
+    ScoreForecast(double[] probabilities) {
+        this.probabilities = probabilities;
+    }
+
+    public double getProbability(int score) {
+        return score >= 0 && score <= MAX_SCORE ? probabilities[score] : 0;
+    }
+
+    public double[] getProbabilities() {
+        return probabilities.clone();
+    }
+
+    public double getExpectedScore() {
+        double expected = 0;
+        for (int score = 0; score <= MAX_SCORE; score++) {
+            expected += probabilities[score] * score;
+        }
+        return expected;
+    }
+
+    public static double[] getWinProbabilities(List<ScoreForecast> forecasts) {
+        int players = forecasts.size();
+        double[] wins = new double[players];
+        double[] below = new double[players];
+        double[] othersBelow = new double[players];
+        for (int score = 0; score <= MAX_SCORE; score++) {
+            double product = 1;
+            for (int player = 0; player < players; player++) {
+                othersBelow[player] = product;
+                product *= below[player];
+            }
+            product = 1;
+            for (int player = players - 1; player >= 0; player--) {
+                othersBelow[player] *= product;
+                product *= below[player];
+            }
+            for (int player = 0; player < players; player++) {
+                double probability = forecasts.get(player).probabilities[score];
+                wins[player] += probability * othersBelow[player];
+                below[player] += probability;
+            }
+        }
+        return wins;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("expected score: %.1f", getExpectedScore());
+    }
+}
@@ -0,0 +1,87 @@
+package org.mondogrua;
+
+import java.util.stream.IntStream;
+
+import static org.mondogrua.GameStateSpace.END;
+import static org.mondogrua.GameStateSpace.MAX_SCORE;
+
+public class ScoreForecaster {
+    private final double[][] rollProbabilities = new double[IRoll.MAX_PINS + 1][];
+    private final double[][] completions = new double[GameStateSpace.STATES][];
+
+    public ScoreForecaster(PinModel model) {
+        for (int pinsStanding = 0; pinsStanding <= IRoll.MAX_PINS; pinsStanding++) {
+            rollProbabilities[pinsStanding] = normalize(model, pinsStanding);
+        }
+        for (int[] layer : GameStateSpace.layers()) {
+            IntStream.of(layer).parallel().forEach(state -> completions[state] = forecastCompletions(state));
+        }
+    }
+
+    public ScoreForecast forecast(IGame game) {
+        return forecast(game.getRolls());
+    }
+
+    public ScoreForecast forecast(int... rolls) {
+        int state = GameStateSpace.START;
+        int points = 0;
+        for (int pins : rolls) {
+            if (state == END) {
+                throw new IllegalArgumentException("game is over, extra roll: " + pins);
+            }
+            if (pins < 0 || pins > GameStateSpace.getStandingPins(state)) {
+                throw new IllegalArgumentException("pins must be between 0 and " + GameStateSpace.getStandingPins(state) + ": " + pins);
+            }
+            points += GameStateSpace.getPoints(state, pins);
+            state = GameStateSpace.next(state, pins);
+        }
+        double[] probabilities = new double[MAX_SCORE + 1];
+        if (state == END) {
+            probabilities[points] = 1;
+        } else {
+            System.arraycopy(completions[state], 0, probabilities, points, MAX_SCORE + 1 - points);
+        }
+        return new ScoreForecast(probabilities);
+    }
+
+    private double[] forecastCompletions(int state) {
+        double[] probabilities = new double[MAX_SCORE + 1];
+        int pinsStanding = GameStateSpace.getStandingPins(state);
+        for (int pins = 0; pins <= pinsStanding; pins++) {
+            double rollProbability = rollProbabilities[pinsStanding][pins];
+            if (rollProbability == 0) {
+                continue;
+            }
+            int points = GameStateSpace.getPoints(state, pins);
+            int next = GameStateSpace.next(state, pins);
+            if (next == END) {
+                probabilities[points] += rollProbability;
+                continue;
+            }
+            double[] nextProbabilities = completions[next];
+            for (int remaining = 0; points + remaining <= MAX_SCORE; remaining++) {
+                probabilities[points + remaining] += rollProbability * nextProbabilities[remaining];
+            }
+        }
+        return probabilities;
+    }
+
+    private static double[] normalize(PinModel model, int pinsStanding) {
+        double[] probabilities = new double[pinsStanding + 1];
+        double total = 0;
+        for (int pins = 0; pins <= pinsStanding; pins++) {
+            probabilities[pins] = model.getProbability(pinsStanding, pins);
+            if (probabilities[pins] < 0) {
+                throw new IllegalArgumentException("probability of " + pins + " pins out of " + pinsStanding + " must not be negative");
+            }
+            total += probabilities[pins];
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("no pin count is possible with " + pinsStanding + " pins standing");
+        }
+        for (int pins = 0; pins <= pinsStanding; pins++) {
+            probabilities[pins] /= total;
+        }
+        return probabilities;
+    }
+}
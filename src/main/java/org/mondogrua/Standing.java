@@ -0,0 +1,53 @@
+package org.mondogrua;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+public final class Standing {
+    static final Comparator<Standing> BY_SCORE = Comparator
+            .comparingInt(Standing::getScore).reversed()
+            .thenComparing(Standing::getPlayer);
+    static final Comparator<Standing> BY_MAX_POSSIBLE_SCORE = Comparator
+            .comparingInt(Standing::getMaxPossibleScore).reversed()
+            .thenComparing(Standing::getPlayer);
+
+    private final String player;
+    private final int score;
+    private final int maxPossibleScore;
+
+    public Standing(String player, int score, int maxPossibleScore) {
+        this.player = player;
+        this.score = score;
+        this.maxPossibleScore = maxPossibleScore;
+    }
+
+    public String getPlayer() {
+        return player;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getMaxPossibleScore() {
+        return maxPossibleScore;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Standing)) return false;
+        Standing that = (Standing) o;
+        return score == that.score && maxPossibleScore == that.maxPossibleScore && player.equals(that.player);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(player, score, maxPossibleScore);
+    }
+
+    @Override
+    public String toString() {
+        return player + ", score: " + score + ", max possible: " + maxPossibleScore;
+    }
+}
@@ -0,0 +1,104 @@
+package org.mondogrua;
+
+public class ValidatingGame implements IGame {
+    private final IGame game;
+    private final RollValidator validator;
+    private final RollValidator checkpoint = new RollValidator();
+
+    public ValidatingGame() {
+        this(new Game());
+    }
+
+    public ValidatingGame(IGame game) {
+        this.game = game;
+        int[] rolls = game.getRolls();
+        this.validator = RollValidator.of(rolls, 0, rolls.length);
+    }
+
+    @Override
+    public void add(Roll roll) {
+        validator.accept(roll.getPins());
+        game.add(roll);
+    }
+
+    @Override
+    public void add(int pins) {
+        validator.accept(pins);
+        game.add(pins);
+    }
+
+    @Override
+    public void addAll(int[] rolls, int offset, int length) {
+        checkpoint.copyFrom(validator);
+        try {
+            for (int rollIdx = offset; rollIdx < offset + length; rollIdx++) {
+                validator.accept(rolls[rollIdx]);
+            }
+        } catch (InvalidRollException e) {
+            validator.copyFrom(checkpoint);
+            throw e;
+        }
+        game.addAll(rolls, offset, length);
+    }
+
+    @Override
+    public void reset() {
+        validator.reset();
+        game.reset();
+    }
+
+    @Override
+    public void undo() {
+        game.undo();
+        int[] rolls = game.getRolls();
+        validator.copyFrom(RollValidator.of(rolls, 0, rolls.length));
+    }
+
+    @Override
+    public void correct(int rollIndex, int pins) {
+        int[] rolls = game.getRolls();
+        if (rollIndex < 0 || rollIndex >= rolls.length) {
+            game.correct(rollIndex, pins);
+            return;
+        }
+        rolls[rollIndex] = pins;
+        RollValidator corrected = RollValidator.of(rolls, 0, rolls.length);
+        game.correct(rollIndex, pins);
+        validator.copyFrom(corrected);
+    }
+
+    @Override
+    public int[] getRolls() {
+        return game.getRolls();
+    }
+
+    @Override
+    public int getScore() {
+        return game.getScore();
+    }
+
+    @Override
+    public String getReport() {
+        return game.getReport();
+    }
+
+    @Override
+    public void writeReportTo(StringBuilder report) {
+        game.writeReportTo(report);
+    }
+
+    @Override
+    public int currentFrame() {
+        return game.currentFrame();
+    }
+
+    @Override
+    public int getMaxPossibleScore() {
+        return game.getMaxPossibleScore();
+    }
+
+    @Override
+    public int getPinsLeft() {
+        return game.getPinsLeft();
+    }
+}
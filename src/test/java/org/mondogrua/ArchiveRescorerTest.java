@@ -0,0 +1,64 @@
+package org.mondogrua;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ArchiveRescorerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testOutputGivenValidAndInvalidLines() throws IOException {
+        Path input = write(
+                "6,4,6,3,10,10,5,3,6,2,7,1,10,10,4,6,10",
+                "",
+                "10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10\r",
+                "3,4,x",
+                "6,5",
+                "3,4",
+                "0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0",
+                "3,4,3,4,3,4,3,4,3,4,3,4,3,4,3,4,3,4,3,4");
+        Path output = directory.resolve("scores.csv");
+        ArchiveRescorer.Summary summary = new ArchiveRescorer(GameEngine.FRAMES, 2, 16).rescore(input, output);
+        assertEquals(List.of(
+                "1,156",
+                "3,300",
+                "4,error,\"unexpected character at column 5\"",
+                "5,error,\"pins must be between 0 and 4: 5\"",
+                "6,error,\"game is not complete after 2 rolls\"",
+                "7,error,\"game is over, extra roll 20: 0\"",
+                "8,70"), Files.readAllLines(output, StandardCharsets.US_ASCII));
+        assertEquals(7, summary.getRecords());
+        assertEquals(4, summary.getErrors());
+    }
+
+    @Test
+    void testOutputGivenChunksSplittingManyLines() throws IOException {
+        String[] lines = new String[1000];
+        for (int lineIdx = 0; lineIdx < lines.length; lineIdx++) {
+            lines[lineIdx] = lineIdx % 2 == 0 ? "10,10,10,10,10,10,10,10,10,10,10,10" : "3,4,3,4,3,4,3,4,3,4,3,4,3,4,3,4,3,4,3,4";
+        }
+        Path input = write(lines);
+        Path output = directory.resolve("scores.csv");
+        new ArchiveRescorer(GameEngine.ARRAY, 3, 100).rescore(input, output);
+        List<String> scores = Files.readAllLines(output, StandardCharsets.US_ASCII);
+        assertEquals(1000, scores.size());
+        assertEquals("999,300", scores.get(998));
+        assertEquals("1000,70", scores.get(999));
+    }
+
+    private Path write(String... lines) throws IOException {
+        Path input = directory.resolve("games.csv");
+        Files.write(input, String.join("\n", lines).getBytes(StandardCharsets.US_ASCII));
+        return input;
+    }
+}
@@ -0,0 +1,9 @@
+package org.mondogrua;
+
+public class ArrayGameTest extends GameTest {
+
+    @Override
+    protected IGame createGame() {
+        return new ArrayGame();
+    }
+}
@@ -0,0 +1,31 @@
+package org.mondogrua;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public class BatchScorerTest {
+
+    private final int[][] games = {
+            {6, 4, 6, 3, 10, 10, 5, 3, 6, 2, 7, 1, 10, 10, 4, 6, 10},
+            {6, 4, 6, 3, 10, 10, 5, 3, 6, 2, 7, 1, 4, 6, 4, 6, 10, 5, 2},
+            {0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0},
+            {10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10},
+            {6, 2, 3, 2}
+    };
+
+    @Test
+    void testScoreGivenArrayOfGames() {
+        assertArrayEquals(new int[]{156, 143, 0, 300, 13}, new BatchScorer().score(games));
+    }
+
+    @Test
+    void testScoreGivenManyGamesOnArrayEngine() {
+        int[][] manyGames = Stream.generate(() -> games).limit(1000).flatMap(Arrays::stream).toArray(int[][]::new);
+        int[] expected = Arrays.stream(manyGames).mapToInt(rolls -> new BatchScorer().score(rolls)).toArray();
+        assertArrayEquals(expected, new BatchScorer(GameEngine.ARRAY).score(Arrays.asList(manyGames)));
+    }
+}
@@ -0,0 +1,41 @@
+package org.mondogrua;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ConcurrentGameTest extends GameTest {
+
+    @Override
+    protected IGame createGame() {
+        return new ConcurrentGame();
+    }
+
+    @Test
+    void testScoreGivenConcurrentProducers() throws Exception {
+        ExecutorService producers = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int producer = 0; producer < 4; producer++) {
+                futures.add(producers.submit(() -> {
+                    for (int roll = 0; roll < 10; roll++) {
+                        game.add(1);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            producers.shutdown();
+        }
+        assertEquals(20, game.getScore());
+        assertEquals(-1, game.currentFrame());
+    }
+}
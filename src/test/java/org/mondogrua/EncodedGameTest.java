@@ -0,0 +1,44 @@
+package org.mondogrua;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class EncodedGameTest {
+
+    private static final int[] ALL_SPARES = {6, 4, 6, 4, 6, 4, 6, 4, 6, 4, 6, 4, 6, 4, 6, 4, 6, 4, 6, 4, 6};
+
+    @Test
+    void testDecodeGivenEncodedGame() {
+        Game game = new Game();
+        game.addAll(ALL_SPARES);
+        IGame decoded = EncodedGame.of(game).decode(GameEngine.FRAMES);
+        assertArrayEquals(ALL_SPARES, decoded.getRolls());
+        assertEquals(game.getReport(), decoded.getReport());
+    }
+
+    @Test
+    void testRollCountGivenMaxRolls() {
+        EncodedGame encodedGame = EncodedGame.of(ALL_SPARES);
+        assertEquals(21, encodedGame.getRollCount());
+        assertEquals(6, encodedGame.getRoll(20));
+        assertEquals(4, encodedGame.getRoll(15));
+    }
+
+    @Test
+    void testScoresGivenRecordsInBuffer() {
+        ByteBuffer records = ByteBuffer.allocateDirect(3 * EncodedGame.BYTES);
+        EncodedGame.of(new int[]{6, 4, 6, 3, 10, 10, 5, 3, 6, 2, 7, 1, 10, 10, 4, 6, 10}).writeTo(records);
+        EncodedGame.of(new int[]{10, 4}).writeTo(records);
+        EncodedGame.of(ALL_SPARES).writeTo(records);
+        records.flip();
+
+        EncodedGameScorer scorer = new EncodedGameScorer();
+        assertArrayEquals(new int[]{156, 0, 160}, scorer.getScores(records));
+        assertEquals(2, scorer.currentFrame(records, 1));
+        assertEquals(280, scorer.getMaxPossibleScore(records, 1));
+    }
+}
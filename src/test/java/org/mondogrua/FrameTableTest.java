@@ -0,0 +1,104 @@
+package org.mondogrua;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class FrameTableTest {
+
+    @Test
+    void testEntriesGivenEveryReachableFrame() {
+        Set<Frame.State> checked = EnumSet.noneOf(Frame.State.class);
+        checkFrom(new int[0], checked);
+        assertEquals(EnumSet.allOf(Frame.State.class), checked);
+    }
+
+    private void checkFrom(int[] rolls, Set<Frame.State> checked) {
+        Frame.State state = stateOf(rolls);
+        check(state, rolls);
+        checked.add(state);
+        if (state == Frame.State.JUST_OPEN) {
+            check(Frame.State.OPEN, rolls);
+            checked.add(Frame.State.OPEN);
+        }
+        int standingPins = standingPins(rolls);
+        for (int pins = 0; pins <= standingPins; pins++) {
+            checkFrom(append(rolls, pins), checked);
+        }
+    }
+
+    private void check(Frame.State state, int[] rolls) {
+        int first = rolls.length > 0 ? rolls[0] : 0;
+        int second = rolls.length > 1 ? rolls[1] : 0;
+        int third = rolls.length > 2 ? rolls[2] : 0;
+        String entry = state + " " + Arrays.toString(rolls);
+        assertEquals(scoreOf(rolls), FrameTable.getScore(state, first, second, third), entry);
+        assertEquals(maxPossibleScoreOf(rolls), FrameTable.getMaxPossibleScore(state, first, second, third), entry);
+        assertEquals(Math.max(standingPins(rolls), 0), FrameTable.getPinsLeft(state, first, second, third), entry);
+    }
+
+    private static int scoreOf(int[] rolls) {
+        RunningScore runningScore = new RunningScore();
+        Frame frame = new Frame(1, runningScore, new GameListeners(), GameMetrics.NOOP);
+        for (int pins : rolls) {
+            frame.add(Roll.of(pins));
+        }
+        return runningScore.value();
+    }
+
+    private static int maxPossibleScoreOf(int[] rolls) {
+        int standingPins = standingPins(rolls);
+        if (standingPins < 0) {
+            return scoreOf(rolls);
+        }
+        int maxPossibleScore = 0;
+        for (int pins = 0; pins <= standingPins; pins++) {
+            maxPossibleScore = Math.max(maxPossibleScore, maxPossibleScoreOf(append(rolls, pins)));
+        }
+        return maxPossibleScore;
+    }
+
+    private static int standingPins(int[] rolls) {
+        switch (rolls.length) {
+            case 0:
+                return IRoll.MAX_PINS;
+            case 1:
+                return rolls[0] == IRoll.MAX_PINS ? IRoll.MAX_PINS : IRoll.MAX_PINS - rolls[0];
+            case 2:
+                if (rolls[0] == IRoll.MAX_PINS) {
+                    return rolls[1] == IRoll.MAX_PINS ? IRoll.MAX_PINS : IRoll.MAX_PINS - rolls[1];
+                }
+                return rolls[0] + rolls[1] == IRoll.MAX_PINS ? IRoll.MAX_PINS : -1;
+            default:
+                return -1;
+        }
+    }
+
+    private static Frame.State stateOf(int[] rolls) {
+        if (rolls.length == 0) {
+            return Frame.State.NOT_STARTED;
+        }
+        if (rolls[0] == IRoll.MAX_PINS) {
+            return rolls.length == 1 ? Frame.State.STRIKE
+                    : rolls.length == 2 ? Frame.State.STRIKE_WITH_ONE_BONUS
+                    : Frame.State.STRIKE_WITH_TWO_BONUSES;
+        }
+        if (rolls.length == 1) {
+            return Frame.State.ONE_ROLL;
+        }
+        if (rolls[0] + rolls[1] != IRoll.MAX_PINS) {
+            return Frame.State.JUST_OPEN;
+        }
+        return rolls.length == 2 ? Frame.State.SPARE : Frame.State.SPARE_WITH_BONUS;
+    }
+
+    private static int[] append(int[] rolls, int pins) {
+        int[] appended = Arrays.copyOf(rolls, rolls.length + 1);
+        appended[rolls.length] = pins;
+        return appended;
+    }
+}
@@ -0,0 +1,57 @@
+package org.mondogrua;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GameArchiveTest {
+
+    @TempDir
+    Path directory;
+
+    private static IGame game(int... rolls) {
+        IGame game = new Game();
+        game.addAll(rolls);
+        return game;
+    }
+
+    @Test
+    void testScoreGivenAppendedGames() throws IOException {
+        try (GameArchive archive = GameArchive.open(directory)) {
+            long first = archive.append(game(6, 4, 6, 3, 10, 10, 5, 3, 6, 2, 7, 1, 10, 10, 4, 6, 10));
+            long second = archive.append(game(10, 4, 3));
+            assertEquals(2, archive.size());
+            assertEquals(156, archive.getScore(first));
+            assertEquals(24, archive.getScore(second));
+            assertEquals(264, archive.getMaxPossibleScore(second));
+        }
+    }
+
+    @Test
+    void testLoadGivenUpdatedGameAfterReopen() throws IOException {
+        long id;
+        try (GameArchive archive = GameArchive.open(directory)) {
+            archive.append(game(0, 0));
+            id = archive.append(game(10));
+            archive.update(id, game(10, 4, 2));
+        }
+        try (GameArchive archive = GameArchive.open(directory)) {
+            assertEquals(2, archive.size());
+            assertArrayEquals(new int[]{10, 4, 2}, archive.load(id, GameEngine.FRAMES).getRolls());
+            assertEquals(game(10, 4, 2).getReport(), archive.getReport(id));
+        }
+    }
+
+    @Test
+    void testReadGivenUnknownId() throws IOException {
+        try (GameArchive archive = GameArchive.open(directory)) {
+            assertThrows(IndexOutOfBoundsException.class, () -> archive.read(0));
+        }
+    }
+}
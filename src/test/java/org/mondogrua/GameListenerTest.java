@@ -0,0 +1,149 @@
+package org.mondogrua;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mondogrua.GameEvent.Type.BONUS_RESOLVED;
+import static org.mondogrua.GameEvent.Type.CORRECTED;
+import static org.mondogrua.GameEvent.Type.FRAME_COMPLETED;
+import static org.mondogrua.GameEvent.Type.FRAME_SCORED;
+import static org.mondogrua.GameEvent.Type.GAME_OVER;
+import static org.mondogrua.GameEvent.Type.ROLL_ACCEPTED;
+
+public class GameListenerTest {
+
+    private Game game;
+    private List<GameEvent> events;
+
+    @BeforeEach
+    void setUp() {
+        game = new Game();
+        events = new ArrayList<>();
+        game.addListener(events::add);
+    }
+
+    @Test
+    void testEventsGivenOpenFrame() {
+        game.addAll(new int[]{3, 4});
+        assertEquals(List.of(
+                new GameEvent(ROLL_ACCEPTED, 1, 0),
+                new GameEvent(ROLL_ACCEPTED, 1, 7),
+                new GameEvent(FRAME_COMPLETED, 1, 7),
+                new GameEvent(FRAME_SCORED, 1, 7)), events);
+    }
+
+    @Test
+    void testEventsGivenSpareWithBonus() {
+        game.addAll(new int[]{6, 4, 3});
+        assertEquals(List.of(
+                new GameEvent(ROLL_ACCEPTED, 1, 0),
+                new GameEvent(ROLL_ACCEPTED, 1, 0),
+                new GameEvent(FRAME_COMPLETED, 1, 0),
+                new GameEvent(BONUS_RESOLVED, 1, 13),
+                new GameEvent(FRAME_SCORED, 1, 13),
+                new GameEvent(ROLL_ACCEPTED, 2, 13)), events);
+    }
+
+    @Test
+    void testEventsGivenStrikeBonuses() {
+        game.addAll(new int[]{10, 10, 4});
+        assertEquals(List.of(
+                new GameEvent(ROLL_ACCEPTED, 1, 0),
+                new GameEvent(FRAME_COMPLETED, 1, 0),
+                new GameEvent(ROLL_ACCEPTED, 2, 0),
+                new GameEvent(FRAME_COMPLETED, 2, 0),
+                new GameEvent(BONUS_RESOLVED, 1, 24),
+                new GameEvent(FRAME_SCORED, 1, 24),
+                new GameEvent(ROLL_ACCEPTED, 3, 24)), events);
+    }
+
+    @Test
+    void testEventsGivenAddAllAndAddOneByOne() {
+        int[][] games = {
+                {10, 10, 4},
+                {6, 4, 6, 3, 10, 10, 5, 3, 6, 2, 7, 1, 10, 10, 4, 6, 10},
+                {10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10}};
+        for (int[] rolls : games) {
+            game.reset();
+            events.clear();
+            game.addAll(rolls);
+            List<GameEvent> addedAll = new ArrayList<>(events);
+            game.reset();
+            events.clear();
+            for (int pins : rolls) {
+                game.add(pins);
+            }
+            assertEquals(events, addedAll);
+        }
+    }
+
+    @Test
+    void testLastEventsGivenPerfectGame() {
+        game.addAll(new int[]{10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10});
+        assertEquals(List.of(
+                new GameEvent(ROLL_ACCEPTED, 10, 300),
+                new GameEvent(BONUS_RESOLVED, 10, 300),
+                new GameEvent(FRAME_SCORED, 10, 300),
+                new GameEvent(GAME_OVER, 10, 300)), events.subList(events.size() - 4, events.size()));
+    }
+
+    @Test
+    void testEventsGivenUndo() {
+        game.addAll(new int[]{3, 4});
+        events.clear();
+        game.undo();
+        assertEquals(List.of(new GameEvent(CORRECTED, 1, 0)), events);
+    }
+
+    @Test
+    void testEventsGivenCorrectedGameOver() {
+        game.addAll(new int[]{10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10});
+        events.clear();
+        game.correct(10, 0);
+        assertEquals(List.of(new GameEvent(CORRECTED, -1, 280)), events);
+    }
+
+    @Test
+    void testReportSeenByListenerGivenEachRoll() {
+        List<String> reports = new ArrayList<>();
+        game.addListener(event -> reports.add(game.getReport()));
+        game.add(3);
+        assertEquals(game.getReport(), reports.get(reports.size() - 1));
+        game.add(4);
+        assertEquals(game.getReport(), reports.get(reports.size() - 1));
+        game.addAll(new int[]{6, 4, 5});
+        assertEquals(game.getReport(), reports.get(reports.size() - 1));
+        Game expected = new Game();
+        expected.addAll(new int[]{3, 4, 6, 4, 5});
+        assertEquals(expected.getReport(), game.getReport());
+    }
+
+    @Test
+    void testEventsGivenRemovedListener() {
+        GameListener listener = events::add;
+        Game game = new Game();
+        game.addListener(listener);
+        game.removeListener(listener);
+        game.add(10);
+        assertEquals(List.of(), events);
+    }
+
+    @Test
+    void testPublisherGivenSubscriber() throws Exception {
+        List<GameEvent> published = new ArrayList<>();
+        CompletableFuture<Void> done;
+        try (GameEventPublisher publisher = new GameEventPublisher()) {
+            game.addListener(publisher);
+            done = publisher.consume(published::add);
+            game.addAll(new int[]{3, 4});
+        }
+        done.get(5, TimeUnit.SECONDS);
+        assertEquals(events, published);
+    }
+}
@@ -0,0 +1,33 @@
+package org.mondogrua;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class GamePoolTest {
+
+    @Test
+    void testAcquireGivenReleasedGame() {
+        GamePool pool = new GamePool(GameEngine.FRAMES, 1);
+        IGame game = pool.acquire();
+        game.addAll(new int[]{10, 4, 3});
+        pool.release(game);
+        IGame reused = pool.acquire();
+        assertSame(game, reused);
+        assertEquals(0, reused.getScore());
+        assertEquals(1, reused.currentFrame());
+    }
+
+    @Test
+    void testAcquireGivenPoolOverCapacity() {
+        GamePool pool = new GamePool(GameEngine.ARRAY, 1);
+        IGame first = pool.acquire();
+        IGame second = pool.acquire();
+        pool.release(first);
+        pool.release(second);
+        assertSame(first, pool.acquire());
+        assertNotSame(second, pool.acquire());
+    }
+}
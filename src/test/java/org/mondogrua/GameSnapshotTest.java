@@ -0,0 +1,47 @@
+package org.mondogrua;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GameSnapshotTest {
+
+    private static final int[] GAME = {6, 4, 6, 3, 10, 10, 5, 3, 6, 2, 7, 1, 10, 10, 4, 6, 10};
+
+    @Test
+    void testEachSnapshotGivenGameHistory() {
+        Game game = new Game();
+        GameSnapshot snapshot = GameSnapshot.EMPTY;
+        for (int pins : GAME) {
+            game.add(pins);
+            snapshot = snapshot.add(pins);
+            assertEquals(game.getScore(), snapshot.getScore());
+            assertEquals(game.getReport(), snapshot.getReport());
+            assertEquals(game.currentFrame(), snapshot.currentFrame());
+            assertEquals(game.getMaxPossibleScore(), snapshot.getMaxPossibleScore());
+            assertEquals(game.getPinsLeft(), snapshot.getPinsLeft());
+        }
+    }
+
+    @Test
+    void testScoreGivenEarlierSnapshotAfterAdd() {
+        GameSnapshot spare = GameSnapshot.of(6, 4);
+        GameSnapshot withBonus = spare.add(3);
+        assertEquals(0, spare.getScore());
+        assertEquals(2, spare.currentFrame());
+        assertEquals(13, withBonus.getScore());
+    }
+
+    @Test
+    void testAddGivenGameOver() {
+        GameSnapshot over = GameSnapshot.of(GAME);
+        assertSame(over, over.add(10));
+    }
+
+    @Test
+    void testAddGivenTooManyPins() {
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshot.EMPTY.add(11));
+    }
+}
@@ -3,20 +3,28 @@ package org.mondogrua;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.stream.IntStream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class GameTest {
 
-    Game game;
+    IGame game;
     private void addRolls(Integer[] rolls) {
         Arrays.asList(rolls).forEach(pins -> game.add(new Roll(pins)));
     }
 
+    protected IGame createGame() {
+        return new Game();
+    }
+
     @BeforeEach
     void setUp() {
-        game = new Game();
+        game = createGame();
     }
 
     // Test Score
@@ -69,6 +77,25 @@ public class GameTest {
         addRolls(new Integer[]{0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0});
         assertEquals(0, game.getScore());
     }
+    @Test
+    void testScoreGivenCompletGameAddedAsPins() {
+        for (int pins : new int[]{6, 4, 6, 3, 10, 10, 5, 3, 6, 2, 7, 1, 10, 10, 4, 6, 10}) {
+            game.add(pins);
+        }
+        assertEquals(156, game.getScore());
+    }
+    @Test
+    void testScoreGivenResetAfterCompletGame() {
+        addRolls(new Integer[]{6, 4, 6, 3, 10, 10, 5, 3, 6, 2, 7, 1, 10, 10, 4, 6, 10});
+        game.reset();
+        addRolls(new Integer[]{6, 2, 3, 2});
+        assertEquals(13, game.getScore());
+    }
+    @Test
+    void testScoreGivenCompletGameAddedAll() {
+        game.addAll(new int[]{0, 6, 4, 6, 3, 10, 10, 5, 3, 6, 2, 7, 1, 10, 10, 4, 6, 10, 0}, 1, 17);
+        assertEquals(156, game.getScore());
+    }
 
     // Report
     @Test
@@ -240,6 +267,136 @@ public class GameTest {
                 "Frame 10: 4, /, score: 156", game.getReport());
     }
 
+    @Test
+    void testReportGivenBonusAddedAfterReporting() {
+        addRolls(new Integer[]{6, 4});
+        game.getReport();
+        addRolls(new Integer[]{3});
+        assertEquals("Frame 1: 6, /, score: 13\n" +
+                "Frame 2: 3\n" +
+                "Frame 3: \n" +
+                "Frame 4: \n" +
+                "Frame 5: \n" +
+                "Frame 6: \n" +
+                "Frame 7: \n" +
+                "Frame 8: \n" +
+                "Frame 9: \n" +
+                "Frame 10: ", game.getReport());
+    }
+    @Test
+    void testReportGivenRollsAddedInBatches() {
+        game.addAll(IntStream.of(6, 4, 6, 3, 10));
+        game.addAll(ByteBuffer.wrap(new byte[]{10, 5, 3, 6, 2}));
+        game.addAll(new int[]{7, 1, 10, 10, 4, 6, 10});
+        assertEquals("Frame 1: 6, /, score: 16\n" +
+                "Frame 2: 6, 3, score: 25\n" +
+                "Frame 3: X, score: 50\n" +
+                "Frame 4: X, score: 68\n" +
+                "Frame 5: 5, 3, score: 76\n" +
+                "Frame 6: 6, 2, score: 84\n" +
+                "Frame 7: 7, 1, score: 92\n" +
+                "Frame 8: X, score: 116\n" +
+                "Frame 9: X, score: 136\n" +
+                "Frame 10: 4, /, score: 156", game.getReport());
+    }
+    @Test
+    void testReportWrittenToExistingBuffer() {
+        addRolls(new Integer[]{10, 4, 2});
+        StringBuilder report = new StringBuilder("Lane 3\n");
+        game.writeReportTo(report);
+        assertEquals("Lane 3\n" + game.getReport(), report.toString());
+    }
+
+    @Test
+    void testReportGivenReset() {
+        addRolls(new Integer[]{10, 4, 2});
+        game.getReport();
+        game.reset();
+        assertEquals(createGame().getReport(), game.getReport());
+    }
+
+    // Test Rolls
+
+    @Test
+    void testRollsGivenNoRolls() {
+        assertArrayEquals(new int[]{}, game.getRolls());
+    }
+
+    @Test
+    void testRollsGivenCompletGameEndingWithStrikeAndExtraRoll() {
+        addRolls(new Integer[]{6, 4, 6, 3, 10, 10, 5, 3, 6, 2, 7, 1, 4, 6, 4, 6, 10, 10, 2, 8});
+        assertArrayEquals(new int[]{6, 4, 6, 3, 10, 10, 5, 3, 6, 2, 7, 1, 4, 6, 4, 6, 10, 10, 2}, game.getRolls());
+    }
+
+    // Test Undo and Correct
+
+    @Test
+    void testReportGivenUndoOfSpareBonus() {
+        addRolls(new Integer[]{6, 4, 3});
+        game.getReport();
+        game.undo();
+        assertEquals(0, game.getScore());
+        assertEquals(2, game.currentFrame());
+        assertEquals("Frame 1: 6, /\n" +
+                "Frame 2: \n" +
+                "Frame 3: \n" +
+                "Frame 4: \n" +
+                "Frame 5: \n" +
+                "Frame 6: \n" +
+                "Frame 7: \n" +
+                "Frame 8: \n" +
+                "Frame 9: \n" +
+                "Frame 10: ", game.getReport());
+    }
+
+    @Test
+    void testScoreGivenUndoOfNoRolls() {
+        game.undo();
+        assertEquals(0, game.getScore());
+        assertEquals(1, game.currentFrame());
+    }
+
+    @Test
+    void testScoreGivenUndoAndNewRoll() {
+        addRolls(new Integer[]{10, 4, 3});
+        game.undo();
+        addRolls(new Integer[]{5});
+        assertEquals(28, game.getScore());
+    }
+
+    @Test
+    void testScoreGivenCorrectionOfStrikeIntoOpenFrame() {
+        addRolls(new Integer[]{10, 4, 3});
+        game.correct(0, 2);
+        assertArrayEquals(new int[]{2, 4, 3}, game.getRolls());
+        assertEquals(6, game.getScore());
+        assertEquals(2, game.currentFrame());
+        assertEquals(7, game.getPinsLeft());
+    }
+
+    @Test
+    void testReportGivenCorrectionOfBonusRoll() {
+        addRolls(new Integer[]{6, 4, 3, 2});
+        game.getReport();
+        game.correct(2, 5);
+        assertEquals("Frame 1: 6, /, score: 15\n" +
+                "Frame 2: 5, 2, score: 22\n" +
+                "Frame 3: \n" +
+                "Frame 4: \n" +
+                "Frame 5: \n" +
+                "Frame 6: \n" +
+                "Frame 7: \n" +
+                "Frame 8: \n" +
+                "Frame 9: \n" +
+                "Frame 10: ", game.getReport());
+    }
+
+    @Test
+    void testCorrectGivenRollNotYetThrown() {
+        addRolls(new Integer[]{6, 4});
+        assertThrows(IndexOutOfBoundsException.class, () -> game.correct(2, 3));
+    }
+
     // Test CurrentFrame
 
     @Test
@@ -0,0 +1,63 @@
+package org.mondogrua;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import javax.management.ObjectName;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class InstrumentedGameTest extends GameTest {
+
+    private GameStats stats;
+
+    @Override
+    protected IGame createGame() {
+        stats = new GameStats();
+        return new InstrumentedGame(stats);
+    }
+
+    @Test
+    void testStatsGivenSpareWithBonus() {
+        game.addAll(new int[]{6, 4, 3});
+        game.getScore();
+        game.getScore();
+        assertEquals(3, stats.getRollCount());
+        assertEquals(Map.of("ONE_ROLL", 2L, "SPARE", 1L, "SPARE_WITH_BONUS", 1L), stats.getStateCounts());
+        assertEquals(1L, stats.getOperationCounts().get("ADD"));
+        assertEquals(2L, stats.getOperationCounts().get("SCORE"));
+        assertEquals(0L, stats.getOperationCounts().get("REPORT"));
+    }
+
+    @Test
+    void testRollCountGivenRollsAfterGameOver() {
+        game.addAll(new int[]{10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10});
+        game.add(10);
+        assertEquals(12, stats.getRollCount());
+    }
+
+    @Test
+    void testStatsGivenRegisteredMBean() throws Exception {
+        ObjectName name = stats.register("test");
+        try {
+            game.add(10);
+            assertEquals(1L, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "RollCount"));
+        } finally {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        }
+    }
+
+    @Test
+    void testPercentileGivenRecordedLatencies() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int sample = 0; sample < 99; sample++) {
+            histogram.record(100, 0);
+        }
+        histogram.record(5000, 64);
+        assertEquals(127, histogram.getPercentileNanos(99));
+        assertEquals(8191, histogram.getPercentileNanos(100));
+        assertEquals(0, histogram.getMeanAllocatedBytes());
+    }
+}
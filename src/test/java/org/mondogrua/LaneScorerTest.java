@@ -0,0 +1,86 @@
+package org.mondogrua;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LaneScorerTest {
+
+    @Test
+    void testScoresGivenInterleavedLanes() throws Exception {
+        List<LaneScore> scores = process(
+                new LaneRoll(1, 6), new LaneRoll(2, 10), new LaneRoll(1, 4),
+                new LaneRoll(2, 3), new LaneRoll(1, 3), new LaneRoll(2, 4));
+        assertEquals(List.of(
+                new LaneScore(1, 0, 1),
+                new LaneScore(2, 0, 2),
+                new LaneScore(1, 0, 2),
+                new LaneScore(2, 0, 2),
+                new LaneScore(1, 13, 2),
+                new LaneScore(2, 24, 3)), scores);
+    }
+
+    @Test
+    void testScoresGivenRetiredGame() throws Exception {
+        List<LaneRoll> rolls = new ArrayList<>();
+        for (int rollIdx = 0; rollIdx < 12 + 1; rollIdx++) {
+            rolls.add(new LaneRoll(7, 10));
+        }
+        List<LaneScore> scores = process(rolls.toArray(new LaneRoll[0]));
+        assertEquals(new LaneScore(7, 300, -1), scores.get(11));
+        assertEquals(new LaneScore(7, 0, 2), scores.get(12));
+    }
+
+    @Test
+    void testScoresGivenTooManyPins() throws Exception {
+        List<LaneScore> scores = process(
+                new LaneRoll(1, 6), new LaneRoll(1, 5), new LaneRoll(2, 7), new LaneRoll(1, 4));
+        assertEquals(List.of(
+                new LaneScore(1, 0, 1),
+                new LaneScore(1, 0, 1, "pins must be between 0 and 4: 5"),
+                new LaneScore(2, 0, 1),
+                new LaneScore(1, 0, 2)), scores);
+    }
+
+    @Test
+    void testActiveLanesGivenUpstreamError() {
+        LaneScorer scorer = new LaneScorer();
+        scorer.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        scorer.onNext(new LaneRoll(1, 6));
+        scorer.onNext(new LaneRoll(2, 6));
+        scorer.onError(new IllegalStateException("lane feed lost"));
+        assertEquals(0, scorer.getActiveLanes());
+        assertTrue(scorer.isClosed());
+    }
+
+    private static List<LaneScore> process(LaneRoll... rolls) throws Exception {
+        List<LaneScore> scores = new ArrayList<>();
+        CompletableFuture<Void> done;
+        try (SubmissionPublisher<LaneRoll> source = new SubmissionPublisher<>()) {
+            LaneScorer scorer = new LaneScorer();
+            source.subscribe(scorer);
+            done = scorer.consume(scores::add);
+            for (LaneRoll roll : rolls) {
+                source.submit(roll);
+            }
+        }
+        done.get(5, TimeUnit.SECONDS);
+        return scores;
+    }
+}
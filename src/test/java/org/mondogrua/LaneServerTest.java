@@ -0,0 +1,92 @@
+package org.mondogrua;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LaneServerTest {
+
+    private LaneServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = LaneServer.start(0);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.close();
+    }
+
+    @Test
+    void testAnswersGivenSpareWithBonus() throws IOException {
+        try (Lane lane = new Lane(server.getPort())) {
+            assertEquals("ok", lane.send("add 6"));
+            assertEquals("ok", lane.send("add 4"));
+            assertEquals("ok", lane.send("add 3"));
+            assertEquals("13", lane.send("score"));
+            assertEquals("2", lane.send("currentFrame"));
+            assertEquals("7", lane.send("pinsLeft"));
+            assertEquals("Frame 1: 6, /, score: 13", lane.send("report"));
+            assertEquals("Frame 2: 3", lane.reader.readLine());
+            for (int frameIdx = 3; frameIdx <= 10; frameIdx++) {
+                assertEquals("Frame " + frameIdx + ": ", lane.reader.readLine());
+            }
+            assertEquals("", lane.reader.readLine());
+            assertEquals("13", lane.send("score"));
+        }
+    }
+
+    @Test
+    void testAnswersGivenSeparateSessions() throws IOException {
+        try (Lane first = new Lane(server.getPort()); Lane second = new Lane(server.getPort())) {
+            first.send("add 10");
+            assertEquals("1", second.send("currentFrame"));
+            assertEquals("10", second.send("pinsLeft"));
+            assertEquals("2", first.send("currentFrame"));
+        }
+    }
+
+    @Test
+    void testAnswersGivenInvalidCommands() throws IOException {
+        try (Lane lane = new Lane(server.getPort())) {
+            assertEquals("error pins must be a number: x", lane.send("add x"));
+            lane.send("add 6");
+            assertEquals("error pins must be between 0 and 4: 5", lane.send("add 5"));
+            assertEquals("error unknown command: roll", lane.send("roll"));
+        }
+    }
+
+    private static class Lane implements AutoCloseable {
+        private final Socket socket;
+        private final PrintWriter writer;
+        private final BufferedReader reader;
+
+        Lane(int port) throws IOException {
+            socket = new Socket(InetAddress.getLoopbackAddress(), port);
+            writer = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.US_ASCII);
+            reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+        }
+
+        String send(String command) throws IOException {
+            writer.print(command + "\n");
+            writer.flush();
+            return reader.readLine();
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.mondogrua;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LeaderboardTest {
+
+    private Leaderboard leaderboard;
+    private Game ann;
+    private Game bob;
+
+    @BeforeEach
+    void setUp() {
+        leaderboard = new Leaderboard();
+        ann = new Game();
+        bob = new Game();
+        leaderboard.track("ann", ann);
+        leaderboard.track("bob", bob);
+    }
+
+    @Test
+    void testByScoreGivenRolls() {
+        ann.addAll(new int[]{3, 4});
+        bob.addAll(new int[]{6, 4, 3});
+        assertEquals(List.of(
+                new Standing("bob", 13, 273),
+                new Standing("ann", 7, 277)), leaderboard.byScore(10));
+        ann.add(10);
+        bob.add(0);
+        assertEquals(List.of(
+                new Standing("bob", 16, 256),
+                new Standing("ann", 7, 277)), leaderboard.byScore(10));
+        assertEquals(List.of(new Standing("ann", 7, 277)), leaderboard.byMaxPossibleScore(1));
+    }
+
+    @Test
+    void testContendersGivenFinishedGame() {
+        ann.addAll(new int[]{10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10, 10});
+        bob.addAll(new int[]{0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0});
+        assertEquals(List.of(new Standing("ann", 300, 300)), leaderboard.getContenders());
+        ann.reset();
+        assertEquals(List.of(
+                new Standing("ann", 0, 300),
+                new Standing("bob", 0, 90)), leaderboard.getContenders());
+    }
+
+    @Test
+    void testStandingGivenUntrackedPlayer() {
+        leaderboard.untrack("bob");
+        bob.add(10);
+        assertNull(leaderboard.getStanding("bob"));
+        assertEquals(1, leaderboard.size());
+    }
+
+    @Test
+    void testTrackGivenTrackedPlayer() {
+        assertThrows(IllegalArgumentException.class, () -> leaderboard.track("ann", new Game()));
+    }
+
+    @Test
+    void testTrackGivenFailedListenerRegistration() {
+        Game broken = new Game() {
+            @Override
+            public void addListener(GameListener listener) {
+                throw new IllegalStateException("listeners closed");
+            }
+        };
+        assertThrows(IllegalStateException.class, () -> leaderboard.track("cy", broken));
+        assertNull(leaderboard.getStanding("cy"));
+        leaderboard.track("cy", new Game());
+        assertEquals(3, leaderboard.size());
+    }
+}
@@ -0,0 +1,69 @@
+package org.mondogrua;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ScoreDistributionTest {
+
+    @Test
+    void testTotalCountGivenNewGame() {
+        ScoreDistribution distribution = ScoreDistribution.of(new Game());
+        assertEquals(5_726_805_883_325_784_576L, distribution.getTotalCount());
+        assertEquals(1, distribution.getCount(300));
+        assertEquals(0, distribution.getMinScore());
+    }
+
+    @Test
+    void testCountsGivenLateGame() {
+        int[] rolls = {10, 10, 10, 10, 10, 10, 10, 3, 4, 6, 4};
+        long[] expected = new long[GameStateSpace.MAX_SCORE + 1];
+        enumerate(rolls, expected);
+        assertArrayEquals(expected, ScoreDistribution.of(rolls).getCounts());
+    }
+
+    @Test
+    void testScoreRangeGivenRandomGames() {
+        Random random = new Random(7);
+        for (int gameIdx = 0; gameIdx < 200; gameIdx++) {
+            Game game = new Game();
+            int rolls = random.nextInt(21);
+            for (int rollIdx = 0; rollIdx < rolls && game.currentFrame() != -1; rollIdx++) {
+                game.add(random.nextInt(game.getPinsLeft() + 1));
+            }
+            ScoreDistribution distribution = ScoreDistribution.of(game);
+            assertEquals(game.getMaxPossibleScore(), distribution.getMaxScore(), Arrays.toString(game.getRolls()));
+        }
+    }
+
+    @Test
+    void testCountGivenGameOver() {
+        ScoreDistribution distribution = ScoreDistribution.of(3, 4, 3, 4, 3, 4, 3, 4, 3, 4, 3, 4, 3, 4, 3, 4, 3, 4, 3, 4);
+        assertEquals(1, distribution.getTotalCount());
+        assertEquals(1, distribution.getCount(70));
+    }
+
+    @Test
+    void testOfGivenTooManyPins() {
+        assertThrows(IllegalArgumentException.class, () -> ScoreDistribution.of(6, 5));
+    }
+
+    private static void enumerate(int[] rolls, long[] counts) {
+        Game game = new Game();
+        game.addAll(rolls);
+        if (game.currentFrame() == -1) {
+            counts[game.getScore()]++;
+            return;
+        }
+        int[] next = Arrays.copyOf(rolls, rolls.length + 1);
+        for (int pins = 0; pins <= game.getPinsLeft(); pins++) {
+            next[rolls.length] = pins;
+            enumerate(next, counts);
+        }
+    }
+}
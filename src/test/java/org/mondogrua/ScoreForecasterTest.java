@@ -0,0 +1,70 @@
+package org.mondogrua;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ScoreForecasterTest {
+
+    private static final double DELTA = 1e-9;
+
+    private final ScoreForecaster uniform = new ScoreForecaster(PinModel.uniform());
+    private final ScoreForecaster strikes = new ScoreForecaster((pinsStanding, pins) -> pins == pinsStanding ? 1 : 0);
+    private final ScoreForecaster gutters = new ScoreForecaster((pinsStanding, pins) -> pins == 0 ? 1 : 0);
+
+    @Test
+    void testExpectedScoreGivenDeterministicModels() {
+        assertEquals(300, strikes.forecast(new Game()).getExpectedScore(), DELTA);
+        assertEquals(10, gutters.forecast(10).getExpectedScore(), DELTA);
+        assertEquals(1, gutters.forecast(10).getProbability(10), DELTA);
+    }
+
+    @Test
+    void testProbabilitiesGivenUniformModel() {
+        ScoreForecast forecast = uniform.forecast(10, 6, 4);
+        assertEquals(1, Arrays.stream(forecast.getProbabilities()).sum(), DELTA);
+        assertEquals(0, forecast.getProbability(29), DELTA);
+        assertEquals(0, forecast.getProbability(300), DELTA);
+    }
+
+    @Test
+    void testForecastGivenGameOver() {
+        Game game = new Game();
+        game.addAll(new int[]{3, 4, 3, 4, 3, 4, 3, 4, 3, 4, 3, 4, 3, 4, 3, 4, 3, 4, 3, 4});
+        ScoreForecast forecast = uniform.forecast(game);
+        assertEquals(70, forecast.getExpectedScore(), DELTA);
+        assertEquals(1, forecast.getProbability(70), DELTA);
+    }
+
+    @Test
+    void testWinProbabilities() {
+        ScoreForecast finished = gutters.forecast(10);
+        ScoreForecast perfect = strikes.forecast();
+        assertArrayEquals(new double[]{0, 1}, ScoreForecast.getWinProbabilities(List.of(finished, perfect)), DELTA);
+        double[] even = ScoreForecast.getWinProbabilities(List.of(uniform.forecast(), uniform.forecast(), uniform.forecast()));
+        assertEquals(even[0], even[1], DELTA);
+        assertEquals(even[1], even[2], DELTA);
+        assertEquals(1, even[0] + even[1] + even[2] + tieProbability(uniform.forecast(), 3), 1e-6);
+    }
+
+    @Test
+    void testFromCountsGivenWrongShape() {
+        assertThrows(IllegalArgumentException.class, () -> PinModel.fromCounts(new long[3][]));
+    }
+
+    private static double tieProbability(ScoreForecast forecast, int players) {
+        double[] probabilities = forecast.getProbabilities();
+        double below = 0;
+        double noTie = 0;
+        for (double probability : probabilities) {
+            noTie += players * probability * Math.pow(below, players - 1);
+            below += probability;
+        }
+        return 1 - noTie;
+    }
+}
@@ -0,0 +1,90 @@
+package org.mondogrua;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ValidatingGameTest extends GameTest {
+
+    @Override
+    protected IGame createGame() {
+        return new ValidatingGame();
+    }
+
+    @Override
+    @Test
+    void testRollsGivenCompletGameEndingWithStrikeAndExtraRoll() {
+        game.addAll(new int[]{6, 4, 6, 3, 10, 10, 5, 3, 6, 2, 7, 1, 4, 6, 4, 6, 10, 10, 2});
+        assertReason(InvalidRollException.Reason.GAME_OVER, () -> game.add(8));
+        assertArrayEquals(new int[]{6, 4, 6, 3, 10, 10, 5, 3, 6, 2, 7, 1, 4, 6, 4, 6, 10, 10, 2}, game.getRolls());
+    }
+
+    @Test
+    void testAddGivenNegativePins() {
+        assertReason(InvalidRollException.Reason.NEGATIVE_PINS, () -> game.add(-1));
+    }
+
+    @Test
+    void testAddGivenTooManyPins() {
+        assertReason(InvalidRollException.Reason.TOO_MANY_PINS, () -> game.add(new Roll(11)));
+    }
+
+    @Test
+    void testAddGivenFrameOverTen() {
+        game.add(6);
+        InvalidRollException e = assertReason(InvalidRollException.Reason.MORE_PINS_THAN_STANDING, () -> game.add(5));
+        assertEquals(1, e.getRollIndex());
+        assertEquals(4, e.getPinsLeft());
+        assertEquals("pins must be between 0 and 4: 5", e.getMessage());
+    }
+
+    @Test
+    void testAddGivenGameOver() {
+        game.addAll(new int[]{3, 4, 3, 4, 3, 4, 3, 4, 3, 4, 3, 4, 3, 4, 3, 4, 3, 4, 3, 4});
+        assertReason(InvalidRollException.Reason.GAME_OVER, () -> game.add(0));
+    }
+
+    @Test
+    void testAddGivenBonusRollsInLastFrame() {
+        game.addAll(new int[]{0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 10, 3});
+        assertReason(InvalidRollException.Reason.MORE_PINS_THAN_STANDING, () -> game.add(8));
+        game.add(7);
+        assertEquals(20, game.getScore());
+    }
+
+    @Test
+    void testAddAllGivenInvalidRollLeavesGameUnchanged() {
+        game.add(3);
+        assertReason(InvalidRollException.Reason.MORE_PINS_THAN_STANDING, () -> game.addAll(new int[]{4, 10, 5, 6}));
+        assertArrayEquals(new int[]{3}, game.getRolls());
+        game.add(7);
+        assertEquals(2, game.currentFrame());
+    }
+
+    @Test
+    void testCorrectGivenInvalidCorrection() {
+        game.addAll(new int[]{3, 4});
+        assertReason(InvalidRollException.Reason.MORE_PINS_THAN_STANDING, () -> game.correct(0, 7));
+        assertArrayEquals(new int[]{3, 4}, game.getRolls());
+        game.correct(0, 6);
+        assertReason(InvalidRollException.Reason.TOO_MANY_PINS, () -> game.add(11));
+        game.add(10);
+        assertEquals(20, game.getScore());
+    }
+
+    @Test
+    void testAddGivenUndo() {
+        game.addAll(new int[]{6, 4});
+        game.undo();
+        game.add(3);
+        assertEquals(2, game.currentFrame());
+    }
+
+    private static InvalidRollException assertReason(InvalidRollException.Reason reason, Runnable roll) {
+        InvalidRollException e = assertThrows(InvalidRollException.class, roll::run);
+        assertEquals(reason, e.getReason());
+        return e;
+    }
+}